@@ -3,6 +3,7 @@ package com.example.bookmark.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -40,15 +41,16 @@ public class AsyncConfig implements AsyncConfigurer {
      * 비동기 작업을 위한 Thread Pool 설정
      *
      * 설정값은 application.properties에서 읽어옴
+     * 빈으로 등록하여 @Async 외의 백그라운드 작업(통계 캐시 갱신 등)도 주입받아 같은 풀을 사용
+     * (초기화와 종료는 컨테이너가 담당, Executor 빈이 있으므로 Spring Boot 기본 applicationTaskExecutor는 생성되지 않음)
      */
-    @Override
-    public Executor getAsyncExecutor() {
+    @Bean
+    public ThreadPoolTaskExecutor asyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix(threadNamePrefix);
-        executor.initialize();
 
         log.info("Async Executor configured: core={}, max={}, queue={}, prefix={}",
                 corePoolSize, maxPoolSize, queueCapacity, threadNamePrefix);
@@ -56,6 +58,14 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * @Async 메서드도 같은 풀에서 실행 (설정 클래스 프록시를 거치므로 위의 빈 인스턴스)
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return asyncExecutor();
+    }
+
     /**
      * 비동기 메서드에서 발생한 예외 처리
      */
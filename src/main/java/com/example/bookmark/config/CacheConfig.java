@@ -1,13 +1,19 @@
 package com.example.bookmark.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 캐시 설정
@@ -15,6 +21,12 @@ import org.springframework.context.annotation.Configuration;
  * @EnableCaching: Spring Cache Abstraction 활성화
  * - Caffeine 기반 고성능 로컬 캐시 사용
  * - 설정은 application.properties에서 외부화
+ *
+ * 모든 캐시가 하나의 스펙을 공유하지 않고, 캐시 이름별로 정책(CachePolicy)을 가집니다:
+ * - 만료/선갱신(refreshAfterWrite) 시간
+ * - 개수 대신 추정 크기 기준 상한 (maximumWeight + weigher, 기본은 EstimatedSizeWeigher)
+ * - softValues (메모리 부족 시 GC가 회수)
+ * - 캐시별 eviction listener
  */
 @Configuration
 @EnableCaching
@@ -24,18 +36,56 @@ public class CacheConfig {
     @Value("${cache.caffeine.spec:expireAfterWrite=5m,maximumSize=1000,recordStats}")
     private String caffeineSpec;
 
+    /**
+     * 통계 캐시: 시작 직후 집계 쿼리 결과를 stale-while-revalidate로 제공 (항목 1개)
+     * 비동기 캐시이므로 softValues 사용 불가
+     */
+    @Bean
+    public CachePolicy overallStatisticsPolicy() {
+        return CachePolicy.of("overallStatistics", "refreshAfterWrite=5s,maximumSize=1,recordStats");
+    }
+
+    @Bean
+    public CachePolicy categoryStatisticsPolicy() {
+        return CachePolicy.of("categoryStatistics", "refreshAfterWrite=5s,maximumSize=1,recordStats");
+    }
+
+    /**
+     * 캐시 이름별 정책
+     *
+     * cache.policies.<이름>=<Caffeine 스펙> 프로퍼티가 CachePolicy 빈의 스펙보다 우선
+     */
+    @Bean
+    public CachePolicies cachePolicies(Environment environment, List<CachePolicy> declared) {
+        Map<String, String> overrides = Binder.get(environment)
+                .bind("cache.policies", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        log.info("Cache policies: default={}, declared={}, overridden={}",
+                caffeineSpec, declared.stream().map(CachePolicy::cacheName).toList(), overrides.keySet());
+        return new CachePolicies(caffeineSpec, overrides, declared);
+    }
+
     /**
      * Caffeine Cache Manager 설정
      *
-     * 캐시 정책은 application.properties의 cache.caffeine.spec에서 읽어옴
-     * 기본값: expireAfterWrite=5m,maximumSize=1000,recordStats
+     * 이름으로 요청된 캐시는 해당 이름의 정책으로 생성
+     * 정책이 없는 캐시는 cache.caffeine.spec 사용 (기본값: expireAfterWrite=5m,maximumSize=1000,recordStats)
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.from(caffeineSpec));
+    public CaffeineCacheManager cacheManager(CachePolicies cachePolicies) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+                return cachePolicies.builder(name).build();
+            }
+
+            @Override
+            protected AsyncCache<Object, Object> createAsyncCaffeineCache(String name) {
+                return cachePolicies.builder(name).buildAsync();
+            }
+        };
 
-        log.info("Caffeine Cache configured with spec: {}", caffeineSpec);
+        log.info("Caffeine Cache configured with default spec: {}", caffeineSpec);
 
         return cacheManager;
     }
@@ -0,0 +1,73 @@
+package com.example.bookmark.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 이름별 정책 모음
+ *
+ * 우선순위: cache.policies.<이름> 프로퍼티 > CachePolicy 빈의 spec > cache.caffeine.spec (기본)
+ *
+ * CacheManager가 이름으로 캐시를 만들 때와, 로더가 필요한 비동기 캐시를 서비스가 직접 만들 때
+ * ({@link #builder(String)}) 같은 정책이 적용됩니다.
+ */
+@Slf4j
+public class CachePolicies {
+
+    private static final Weigher<Object, Object> DEFAULT_WEIGHER = new EstimatedSizeWeigher();
+
+    private final String defaultSpec;
+    private final Map<String, String> specOverrides;
+    private final Map<String, CachePolicy> policies = new HashMap<>();
+
+    public CachePolicies(String defaultSpec, Map<String, String> specOverrides, List<CachePolicy> declared) {
+        this.defaultSpec = defaultSpec;
+        this.specOverrides = Map.copyOf(specOverrides);
+        declared.forEach(policy -> policies.put(policy.cacheName(), policy));
+    }
+
+    /**
+     * 캐시 이름에 적용할 스펙
+     */
+    public String specOf(String cacheName) {
+        String override = specOverrides.get(cacheName);
+        if (override != null) {
+            return override;
+        }
+        CachePolicy policy = policies.get(cacheName);
+        return policy != null && policy.spec() != null ? policy.spec() : defaultSpec;
+    }
+
+    /**
+     * 정책이 적용된 Caffeine 빌더 (build/buildAsync는 호출하는 쪽에서)
+     *
+     * softValues/weakValues는 비동기 캐시(buildAsync)에 쓸 수 없습니다.
+     */
+    public Caffeine<Object, Object> builder(String cacheName) {
+        String spec = specOf(cacheName);
+        Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec));
+        CachePolicy policy = policies.get(cacheName);
+
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(policy != null && policy.weigher() != null ? policy.weigher() : DEFAULT_WEIGHER);
+        }
+
+        RemovalListener<Object, Object> listener = policy != null ? policy.evictionListener() : null;
+        builder.evictionListener((key, value, cause) -> {
+            log.debug("Cache {} evicted key {} ({})", cacheName, key, cause);
+            if (listener != null) {
+                listener.onRemoval(key, value, cause);
+            }
+        });
+
+        log.debug("Cache {} configured with spec: {}", cacheName, spec);
+        return builder;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.bookmark.config;
+
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * 캐시 하나의 정책 (캐시 이름별)
+ *
+ * - spec: Caffeine 스펙 문자열 (expireAfterWrite, refreshAfterWrite, maximumSize,
+ *   maximumWeight, softValues, recordStats 등). application.properties의
+ *   cache.policies.<이름>이 있으면 그 값이 우선
+ * - weigher: maximumWeight용 가중치 함수 (없으면 EstimatedSizeWeigher)
+ * - evictionListener: 용량/만료로 제거될 때 호출 (명시적 무효화는 제외)
+ *
+ * @Bean으로 등록하면 CacheConfig가 수집합니다.
+ */
+public record CachePolicy(String cacheName, String spec, Weigher<Object, Object> weigher,
+                          RemovalListener<Object, Object> evictionListener) {
+
+    public static CachePolicy of(String cacheName, String spec) {
+        return new CachePolicy(cacheName, spec, null, null);
+    }
+
+    public CachePolicy weighedBy(Weigher<Object, Object> weigher) {
+        return new CachePolicy(cacheName, spec, weigher, evictionListener);
+    }
+
+    public CachePolicy onEviction(RemovalListener<Object, Object> evictionListener) {
+        return new CachePolicy(cacheName, spec, weigher, evictionListener);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.bookmark.config;
+
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.model.BookmarkReference;
+import com.example.bookmark.model.User;
+import com.example.bookmark.repository.BookmarkColumn;
+import com.example.bookmark.repository.CategoryRepository;
+import com.example.bookmark.repository.TagRepository;
+import com.example.bookmark.repository.UserRepository;
+import com.example.bookmark.service.BookmarkQueryService;
+import com.example.bookmark.service.CategoryTagDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DataLoader 설정
+ *
+ * Bookmark의 연관 필드(category, tags, user)와 Category/Tag의 bookmarks 필드를
+ * 배치로 로딩하는 DataLoader를 등록합니다.
+ * - 필드당 요청마다 IN (...) 쿼리 1회로 필요한 엔티티를 모두 조회 (N+1 문제 해결)
+ * - DataLoader는 GraphQL 요청마다 새로 생성되므로 캐시도 요청 단위로 유지됨
+ * - 카테고리/태그 자체는 CategoryTagDictionary 스냅샷에서 꺼내므로, 태그는 연결 테이블의 ID만 조회
+ *   (스냅샷 재구축 직전에 생긴 ID만 DB에서 읽음)
+ */
+@Configuration
+@Slf4j
+public class DataLoaderConfig {
+
+    public static final String CATEGORY_LOADER = "bookmarkCategoryLoader";
+    public static final String TAGS_LOADER = "bookmarkTagsLoader";
+    public static final String USER_LOADER = "bookmarkUserLoader";
+    public static final String CATEGORY_BOOKMARKS_LOADER = "categoryBookmarksLoader";
+    public static final String TAG_BOOKMARKS_LOADER = "tagBookmarksLoader";
+
+    /**
+     * Category.bookmarks / Tag.bookmarks 로더의 키: 카테고리(태그) ID와 요청된 컬럼
+     *
+     * 컬럼이 키에 포함되므로, 같은 카테고리가 요청 안에서 다른 선택 집합으로 다시 나와도
+     * 부족한 컬럼으로 캐시된 결과를 받지 않습니다 (columns가 null이면 엔티티 로딩).
+     */
+    public record BookmarksKey(Long id, Set<BookmarkColumn> columns) {
+    }
+
+    public DataLoaderConfig(BatchLoaderRegistry registry,
+                            CategoryRepository categoryRepository,
+                            TagRepository tagRepository,
+                            UserRepository userRepository,
+                            CategoryTagDictionary dictionary,
+                            BookmarkQueryService queryService) {
+
+        // categoryId -> Category (from the dictionary)
+        registry.<Long, CategoryView>forName(CATEGORY_LOADER)
+                .registerMappedBatchLoader((categoryIds, env) -> Mono.fromCallable(() -> {
+                    Map<Long, CategoryView> categories = new HashMap<>();
+                    Set<Long> missing = new HashSet<>();
+                    for (Long categoryId : categoryIds) {
+                        dictionary.category(categoryId).ifPresentOrElse(
+                                category -> categories.put(categoryId, category), () -> missing.add(categoryId));
+                    }
+                    if (!missing.isEmpty()) {
+                        log.debug("Batch loading {} categories not yet in the dictionary", missing.size());
+                        categoryRepository.findAllById(missing)
+                                .forEach(category -> categories.put(category.getId(), CategoryView.from(category)));
+                    }
+                    return categories;
+                }));
+
+        // bookmarkId -> List<Tag> (tag ids from bookmark_tags, tags from the dictionary), sorted by name
+        registry.<Long, List<TagView>>forName(TAGS_LOADER)
+                .registerMappedBatchLoader((bookmarkIds, env) -> Mono.fromCallable(() -> {
+                    log.debug("Batch loading tags for {} bookmarks", bookmarkIds.size());
+                    List<Object[]> rows = tagRepository.findTagIdsByBookmarkIds(bookmarkIds);
+                    Map<Long, TagView> tags = new HashMap<>();
+                    Set<Long> missing = new HashSet<>();
+                    for (Object[] row : rows) {
+                        Long tagId = (Long) row[1];
+                        dictionary.tag(tagId).ifPresentOrElse(tag -> tags.put(tagId, tag), () -> missing.add(tagId));
+                    }
+                    if (!missing.isEmpty()) {
+                        tagRepository.findAllById(missing).forEach(tag -> tags.put(tag.getId(), TagView.from(tag)));
+                    }
+
+                    Map<Long, List<TagView>> tagsByBookmark = new HashMap<>();
+                    for (Long bookmarkId : bookmarkIds) {
+                        tagsByBookmark.put(bookmarkId, new ArrayList<>());
+                    }
+                    for (Object[] row : rows) {
+                        TagView tag = tags.get((Long) row[1]);
+                        if (tag != null) { // deleted meanwhile
+                            tagsByBookmark.get((Long) row[0]).add(tag);
+                        }
+                    }
+                    tagsByBookmark.values().forEach(list -> list.sort(Comparator.comparing(TagView::getName)));
+                    return tagsByBookmark;
+                }));
+
+        // userId -> User
+        registry.<Long, User>forName(USER_LOADER)
+                .registerMappedBatchLoader((userIds, env) -> Mono.fromCallable(() -> {
+                    log.debug("Batch loading {} users", userIds.size());
+                    return userRepository.findAllById(userIds).stream()
+                            .collect(Collectors.toMap(User::getId, Function.identity()));
+                }));
+
+        // (categoryId, columns) -> 조회 가능한 북마크 (배치 전체를 쿼리 1회로)
+        registry.<BookmarksKey, List<BookmarkReference>>forName(CATEGORY_BOOKMARKS_LOADER)
+                .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(() ->
+                        byKey(keys, queryService.findByCategories(ids(keys), columns(keys)))));
+
+        // (tagId, columns) -> 조회 가능한 북마크 (북마크 쿼리 1회 + 북마크-태그 쌍 쿼리 1회)
+        registry.<BookmarksKey, List<BookmarkReference>>forName(TAG_BOOKMARKS_LOADER)
+                .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(() ->
+                        byKey(keys, queryService.findByTags(ids(keys), columns(keys)))));
+    }
+
+    private static Set<Long> ids(Set<BookmarksKey> keys) {
+        return keys.stream().map(BookmarksKey::id).collect(Collectors.toSet());
+    }
+
+    /**
+     * 배치의 모든 키가 요청한 컬럼의 합집합 (하나라도 엔티티가 필요하면 null)
+     */
+    private static Set<BookmarkColumn> columns(Set<BookmarksKey> keys) {
+        Set<BookmarkColumn> columns = EnumSet.noneOf(BookmarkColumn.class);
+        for (BookmarksKey key : keys) {
+            if (key.columns() == null) {
+                return null;
+            }
+            columns.addAll(key.columns());
+        }
+        return columns;
+    }
+
+    private static Map<BookmarksKey, List<BookmarkReference>> byKey(Set<BookmarksKey> keys,
+                                                                    Map<Long, List<BookmarkReference>> byId) {
+        Map<BookmarksKey, List<BookmarkReference>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, byId.getOrDefault(key.id(), List.of())));
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.bookmark.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.hibernate.Hibernate;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시 값의 추정 크기(바이트)를 가중치로 사용하는 Weigher
+ *
+ * 64비트 JVM(compressed oops 기준: 객체 헤더 12바이트, 참조 4바이트, 8바이트 정렬)의 객체 배치를 따라
+ * 값이 붙잡고 있는 객체 그래프를 추정합니다:
+ * - 클래스별 shallow 크기는 선언된 필드 타입으로 한 번만 계산 (ClassValue 캐시)
+ * - 애플리케이션 클래스(DTO 등)는 참조 필드를 따라 내려감, 접근할 수 없는 JDK 내부 필드는 shallow 크기만
+ * - 문자열은 Latin-1/UTF-16 바이트 배열까지, 배열은 길이만큼
+ * - 컬렉션/맵은 원소당 노드 비용 + 앞쪽 일부 원소를 재귀 추정한 뒤 전체 개수로 외삽
+ * - 같은 값 안에서 여러 번 참조되는 객체는 한 번만, enum/Class 같은 공유 객체는 0
+ * - 초기화되지 않은 Hibernate 지연 로딩 프록시/컬렉션은 건드리지 않음 (shallow 크기만)
+ *
+ * maximumWeight가 있는 정책에 weigher가 지정되지 않으면 기본으로 사용됩니다.
+ */
+public class EstimatedSizeWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    // HashMap/HashSet 노드 (hash, key, value, next) 한 개
+    private static final int HASH_NODE = 32;
+    // LocalDateTime = LocalDateTime + LocalDate + LocalTime (java.time 내부 필드는 접근 불가)
+    private static final int LOCAL_DATE_TIME = 24 + 24 + 24;
+    private static final int SAMPLE_SIZE = 16;
+    private static final int MAX_DEPTH = 6;
+
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    /**
+     * 클래스 하나의 shallow 크기와 따라갈 수 있는 참조 필드
+     */
+    private record Layout(long shallowSize, Field[] references) {
+
+        static Layout of(Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    Class<?> fieldType = field.getType();
+                    size += fieldType.isPrimitive() ? primitiveSize(fieldType) : REFERENCE;
+                    if (!fieldType.isPrimitive() && field.trySetAccessible()) {
+                        references.add(field);
+                    }
+                }
+            }
+            return new Layout(align(size), references.toArray(Field[]::new));
+        }
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long size = estimate(key, 0, seen) + estimate(value, 0, seen);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, size));
+    }
+
+    private static long estimate(Object value, int depth, Set<Object> seen) {
+        if (value == null || value instanceof Enum<?> || value instanceof Class<?> || !seen.add(value)) {
+            return 0;
+        }
+        if (value instanceof String text) {
+            return stringSize(text);
+        }
+        if (value instanceof LocalDateTime) {
+            return LOCAL_DATE_TIME;
+        }
+        Layout layout = LAYOUTS.get(value.getClass());
+        if (depth >= MAX_DEPTH || !Hibernate.isInitialized(value)) {
+            return layout.shallowSize();
+        }
+        if (value.getClass().isArray()) {
+            return arraySize(value, depth, seen);
+        }
+        if (value instanceof Collection<?> collection) {
+            int nodeSize = collection instanceof Set<?> ? HASH_NODE + REFERENCE : REFERENCE;
+            return layout.shallowSize() + (long) nodeSize * collection.size()
+                    + sampled(collection.iterator(), collection.size(), depth, seen);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return layout.shallowSize() + (long) (HASH_NODE + REFERENCE) * map.size()
+                    + sampled(map.entrySet().iterator(), map.size(), depth, seen);
+        }
+        if (value instanceof Map.Entry<?, ?> entry) {
+            // Map 노드 비용은 위에서 계산, 키와 값만
+            return estimate(entry.getKey(), depth + 1, seen) + estimate(entry.getValue(), depth + 1, seen);
+        }
+
+        long size = layout.shallowSize();
+        for (Field field : layout.references()) {
+            try {
+                size += estimate(field.get(value), depth + 1, seen);
+            } catch (IllegalAccessException e) {
+                // trySetAccessible가 성공한 필드만 있으므로 발생하지 않음
+            }
+        }
+        return size;
+    }
+
+    private static long arraySize(Object array, int depth, Set<Object> seen) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) primitiveSize(componentType) * length);
+        }
+        Object[] elements = (Object[]) array;
+        return align(ARRAY_HEADER + (long) REFERENCE * length)
+                + sampled(Arrays.asList(elements).iterator(), length, depth, seen);
+    }
+
+    /**
+     * 앞쪽 SAMPLE_SIZE개 원소를 재귀 추정한 평균 * 전체 개수
+     */
+    private static long sampled(Iterator<?> elements, int size, int depth, Set<Object> seen) {
+        long sampled = 0;
+        int count = 0;
+        while (count < SAMPLE_SIZE && elements.hasNext()) {
+            sampled += estimate(elements.next(), depth + 1, seen);
+            count++;
+        }
+        return count == 0 ? 0 : sampled * size / count;
+    }
+
+    /**
+     * String 객체 + 내부 byte[] (compact strings: Latin-1이면 문자당 1바이트, 아니면 2바이트)
+     */
+    private static long stringSize(String text) {
+        boolean latin1 = true;
+        for (int i = 0; i < text.length() && latin1; i++) {
+            latin1 = text.charAt(i) < 256;
+        }
+        return LAYOUTS.get(String.class).shallowSize()
+                + align(ARRAY_HEADER + (long) text.length() * (latin1 ? 1 : 2));
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1; // byte, boolean
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
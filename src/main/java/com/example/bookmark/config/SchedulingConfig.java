@@ -0,0 +1,17 @@
+package com.example.bookmark.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * @EnableScheduling: @Scheduled 메서드 실행 활성화
+ * - 방문 수 쓰기 지연(write-behind) 버퍼의 주기적 플러시
+ *
+ * 플러시 주기는 application.properties에서 외부화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
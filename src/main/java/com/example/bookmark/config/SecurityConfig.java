@@ -43,6 +43,9 @@ public class SecurityConfig {
                         .requestMatchers("/graphql", "/graphiql").permitAll()
                         // Allow H2 console access in development
                         .requestMatchers("/h2-console/**").permitAll()
+                        // Health stays open for probes, other actuator endpoints (metrics) are admin only
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,64 @@
+package com.example.bookmark.controller;
+
+import com.example.bookmark.dto.ExportFormat;
+import com.example.bookmark.security.BookmarkSecurityService;
+import com.example.bookmark.service.BookmarkExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Download endpoint for a full export of the current user's bookmarks.
+ *
+ * The export is written straight into the response while the rows are read, so the
+ * response is streamed (chunked) instead of being built in memory first.
+ */
+@RestController
+@RequestMapping("/api/bookmarks")
+@RequiredArgsConstructor
+public class BookmarkExportController {
+
+    private final BookmarkExportService exportService;
+    private final BookmarkSecurityService securityService;
+
+    /**
+     * Export as NDJSON (default) or JSON, optionally gzip-compressed (Content-Encoding: gzip)
+     */
+    @GetMapping("/export")
+    public void exportBookmarks(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                @RequestParam(defaultValue = "false") boolean gzip,
+                                HttpServletResponse response) throws IOException {
+        Long userId = securityService.getCurrentUserId();
+        if (userId == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        boolean ndjson = format == ExportFormat.NDJSON;
+        response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(ndjson ? "bookmarks.ndjson" : "bookmarks.json")
+                .build()
+                .toString());
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream compressed = new GZIPOutputStream(response.getOutputStream(), 8192);
+            exportService.export(userId, format, compressed);
+            compressed.finish();
+        } else {
+            exportService.export(userId, format, response.getOutputStream());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.bookmark.controller;
+
+import com.example.bookmark.dto.ImportProgress;
+import com.example.bookmark.exception.ValidationException;
+import com.example.bookmark.service.BookmarkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Upload endpoint for browser bookmark files.
+ *
+ * GraphQL has no file upload, so the file is posted as multipart/form-data; the import
+ * runs in the background and reports its progress through the importProgress subscription.
+ */
+@RestController
+@RequestMapping("/api/bookmarks")
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkImportController {
+
+    private final BookmarkImportService importService;
+
+    /**
+     * Start importing a Netscape bookmarks.html (form field "file")
+     * @return 202 with the initial progress - subscribe to importProgress(jobId) for the rest
+     */
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportProgress> importBookmarks(@RequestParam("file") MultipartFile file) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.start(file));
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<Map<String, String>> handleValidation(ValidationException ex) {
+        return ResponseEntity.badRequest()
+                .body(Map.of("code", ex.getErrorCode().name(), "message", ex.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalState(IllegalStateException ex) {
+        log.warn("Import rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", ex.getMessage()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.bookmark.dto;
+
+import com.example.bookmark.model.Bookmark;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Composite keyset cursor for Relay Cursor Pagination.
+ *
+ * Holds the sort key and id of the last bookmark of a page, encoded in a
+ * compact binary form (URL-safe Base64 without padding):
+ * <pre>
+ * [version:1][sortField:1][flags:1][key:0|4|12][id:8]
+ * </pre>
+ * flags: bit 0 = descending, bit 1 = key is null
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkCursor {
+
+    private static final byte VERSION = 1;
+    private static final int FLAG_DESCENDING = 1;
+    private static final int FLAG_NULL_KEY = 1 << 1;
+
+    private final BookmarkSortField sortField;
+    private final SortDirection direction;
+    private final Comparable<?> key;
+    private final Long id;
+
+    /**
+     * Build the cursor pointing at the given bookmark
+     */
+    public static BookmarkCursor of(Bookmark bookmark, BookmarkSortField sortField, SortDirection direction) {
+        return new BookmarkCursor(sortField, direction, sortField.keyOf(bookmark), bookmark.getId());
+    }
+
+    public boolean isDescending() {
+        return direction == SortDirection.DESC;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(3 + 12 + 8);
+        int flags = (isDescending() ? FLAG_DESCENDING : 0) | (key == null ? FLAG_NULL_KEY : 0);
+        buffer.put(VERSION);
+        buffer.put((byte) sortField.ordinal());
+        buffer.put((byte) flags);
+
+        if (key != null) {
+            switch (sortField.getKeyType()) {
+                case INT -> buffer.putInt((Integer) key);
+                case TIMESTAMP -> {
+                    LocalDateTime timestamp = (LocalDateTime) key;
+                    buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+                    buffer.putInt(timestamp.getNano());
+                }
+                case NONE -> { }
+            }
+        }
+        buffer.putLong(id);
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    /**
+     * Decode a cursor and verify it was issued for the requested sort order
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another sort order
+     */
+    public static BookmarkCursor decode(String cursor, BookmarkSortField sortField, SortDirection direction) {
+        BookmarkSortField cursorField;
+        SortDirection cursorDirection;
+        ByteBuffer buffer;
+        int flags;
+        try {
+            buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor version");
+            }
+            cursorField = BookmarkSortField.values()[buffer.get()];
+            flags = buffer.get();
+            cursorDirection = (flags & FLAG_DESCENDING) != 0 ? SortDirection.DESC : SortDirection.ASC;
+        } catch (IllegalArgumentException | BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor format");
+        }
+
+        if (cursorField != sortField || cursorDirection != direction) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+
+        try {
+            Comparable<?> key = null;
+            if ((flags & FLAG_NULL_KEY) == 0) {
+                key = switch (cursorField.getKeyType()) {
+                    case INT -> buffer.getInt();
+                    case TIMESTAMP -> LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                    case NONE -> null;
+                };
+            }
+            long id = buffer.getLong();
+
+            return new BookmarkCursor(cursorField, cursorDirection, cursorField == BookmarkSortField.ID ? id : key, id);
+        } catch (BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor format");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One exported bookmark - self-contained: category and tags by name, not by id
+ */
+@Value
+public class BookmarkExportRow {
+    Long id;
+    String title;
+    String url;
+    String description;
+    String category;
+    List<String> tags;
+    Boolean isFavorite;
+    Integer rating;
+    Boolean isPublic;
+    Integer visitCount;
+    LocalDateTime lastVisitedAt;
+    String thumbnailUrl;
+    String faviconUrl;
+    String siteName;
+    String author;
+    LocalDateTime publishedDate;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
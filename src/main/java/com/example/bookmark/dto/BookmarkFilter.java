@@ -11,6 +11,7 @@ public class BookmarkFilter {
     private String query;
     private Long categoryId;
     private String tagName;
+    private TagExpression tags;
     private Boolean isFavorite;
     private Integer minRating;
     private Boolean isPublic;
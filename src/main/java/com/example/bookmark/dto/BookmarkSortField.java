@@ -0,0 +1,59 @@
+package com.example.bookmark.dto;
+
+import com.example.bookmark.model.Bookmark;
+
+/**
+ * Sort keys supported by bookmark connections.
+ * Maps to GraphQL BookmarkSortField enum.
+ *
+ * Every sort is paged with a composite keyset (sort key, id),
+ * so the id acts as a unique tiebreaker.
+ */
+public enum BookmarkSortField {
+    ID("id", KeyType.NONE),
+    CREATED_AT("createdAt", KeyType.TIMESTAMP),
+    RATING("rating", KeyType.INT),
+    VISIT_COUNT("visitCount", KeyType.INT),
+    LAST_VISITED_AT("lastVisitedAt", KeyType.TIMESTAMP);
+
+    /**
+     * Binary representation of the sort key inside a cursor
+     */
+    public enum KeyType {
+        NONE,       // the id itself is the key
+        INT,        // 4 bytes
+        TIMESTAMP   // 8 bytes epoch seconds + 4 bytes nanos
+    }
+
+    private final String property;
+    private final KeyType keyType;
+
+    BookmarkSortField(String property, KeyType keyType) {
+        this.property = property;
+        this.keyType = keyType;
+    }
+
+    /**
+     * Entity attribute name used in queries
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    public KeyType getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Extract the sort key value of a bookmark (may be null for rating / lastVisitedAt)
+     */
+    public Comparable<?> keyOf(Bookmark bookmark) {
+        return switch (this) {
+            case ID -> bookmark.getId();
+            case CREATED_AT -> bookmark.getCreatedAt();
+            case RATING -> bookmark.getRating();
+            case VISIT_COUNT -> bookmark.getVisitCount();
+            case LAST_VISITED_AT -> bookmark.getLastVisitedAt();
+        };
+    }
+}
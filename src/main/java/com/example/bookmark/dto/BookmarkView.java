@@ -0,0 +1,40 @@
+package com.example.bookmark.dto;
+
+import com.example.bookmark.model.BookmarkReference;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar columns of a bookmark plus its foreign key ids, read by a constructor
+ * projection (no entity, no association loaded).
+ *
+ * Served as a GraphQL Bookmark: the scalar fields map by name, and category, tags
+ * and user are resolved from the ids like for the entity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookmarkView implements BookmarkReference {
+    private Long id;
+    private String title;
+    private String url;
+    private String description;
+    private Boolean isFavorite;
+    private Integer rating;
+    private Integer visitCount;
+    private LocalDateTime lastVisitedAt;
+    private Boolean isPublic;
+    private String thumbnailUrl;
+    private String faviconUrl;
+    private String siteName;
+    private String author;
+    private LocalDateTime publishedDate;
+    private Boolean metadataFetched;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long categoryId;
+    private Long userId;
+}
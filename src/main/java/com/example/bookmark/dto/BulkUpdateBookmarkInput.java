@@ -0,0 +1,13 @@
+package com.example.bookmark.dto;
+
+import lombok.Data;
+
+/**
+ * Input DTO for one item of a bulk update.
+ * Maps to GraphQL BulkUpdateBookmarkInput type.
+ */
+@Data
+public class BulkUpdateBookmarkInput {
+    private Long id;
+    private UpdateBookmarkInput changes;
+}
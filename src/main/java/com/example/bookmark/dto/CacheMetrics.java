@@ -0,0 +1,22 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+/**
+ * Caffeine statistics of one cache (counts are cumulative since startup,
+ * zero for caches without recordStats)
+ */
+@Value
+public class CacheMetrics {
+    String name;
+    long estimatedSize;
+    long hitCount;
+    long missCount;
+    double hitRatio;
+    long evictionCount;
+    // Sum of the evicted entries' weights (estimated bytes with a weigher, otherwise evictionCount)
+    long evictionWeight;
+    long loadSuccessCount;
+    long loadFailureCount;
+    double averageLoadPenaltyMs;
+}
@@ -0,0 +1,19 @@
+package com.example.bookmark.dto;
+
+import com.example.bookmark.model.Category;
+import lombok.Value;
+
+/**
+ * Immutable category as served from the in-memory dictionary
+ * (bookmarks are resolved separately by CategoryResolver)
+ */
+@Value
+public class CategoryView {
+    Long id;
+    String name;
+    String description;
+
+    public static CategoryView from(Category category) {
+        return new CategoryView(category.getId(), category.getName(), category.getDescription());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+/**
+ * HikariCP connection pool usage
+ */
+@Value
+public class DatabasePoolMetrics {
+    String poolName;
+    int activeConnections;
+    int idleConnections;
+    int totalConnections;
+    int maxPoolSize;
+    int threadsAwaitingConnection;
+}
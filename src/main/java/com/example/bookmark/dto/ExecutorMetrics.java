@@ -0,0 +1,18 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+/**
+ * Thread pool usage of an executor
+ */
+@Value
+public class ExecutorMetrics {
+    String name;
+    int activeCount;
+    int poolSize;
+    int corePoolSize;
+    int maxPoolSize;
+    int queueSize;
+    int queueRemainingCapacity;
+    long completedTaskCount;
+}
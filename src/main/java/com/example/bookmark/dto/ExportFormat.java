@@ -0,0 +1,11 @@
+package com.example.bookmark.dto;
+
+/**
+ * Output format of the bookmark export
+ */
+public enum ExportFormat {
+    /** One JSON object per line (application/x-ndjson) */
+    NDJSON,
+    /** A single JSON array */
+    JSON
+}
@@ -0,0 +1,18 @@
+package com.example.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of matching bookmarks for one facet value
+ * (id is set for categories and tags, null for sites)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCount {
+    private Long id;
+    private String value;
+    private int count;
+}
@@ -0,0 +1,23 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+/**
+ * Progress of a bookmark file import, published after every committed chunk
+ * (counts are cumulative; processed = imported + skipped)
+ */
+@Value
+public class ImportProgress {
+    String jobId;
+    ImportStatus status;
+    int processed;
+    int imported;
+    int skipped;
+    int categoriesCreated;
+    int tagsCreated;
+    String message;
+
+    public boolean isFinished() {
+        return status != ImportStatus.RUNNING;
+    }
+}
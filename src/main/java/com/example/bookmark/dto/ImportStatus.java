@@ -0,0 +1,10 @@
+package com.example.bookmark.dto;
+
+/**
+ * State of a bookmark file import
+ */
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,21 @@
+package com.example.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of search results with facet counts over the whole result set,
+ * most frequent values first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFacets {
+    private BookmarkConnection results;
+    private List<FacetCount> categories;
+    private List<FacetCount> tags;
+    private List<FacetCount> sites;
+}
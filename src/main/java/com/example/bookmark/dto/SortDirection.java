@@ -0,0 +1,10 @@
+package com.example.bookmark.dto;
+
+/**
+ * Sort direction for connection queries.
+ * Maps to GraphQL SortDirection enum.
+ */
+public enum SortDirection {
+    ASC,
+    DESC
+}
@@ -0,0 +1,13 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+/**
+ * Subscribers of a GraphQL subscription sink
+ */
+@Value
+public class SubscriptionMetrics {
+    String name;
+    int subscriberCount;
+    int bufferedCount;
+}
@@ -0,0 +1,18 @@
+package com.example.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Autocomplete suggestion (bookmark title or tag name) with its popularity score.
+ * Immutable - instances are shared by the cached top-K lists of the suggestion trie.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class Suggestion {
+    private final String text;
+    private final SuggestionType type;
+    private final double score;
+}
@@ -0,0 +1,9 @@
+package com.example.bookmark.dto;
+
+/**
+ * Source of an autocomplete suggestion
+ */
+public enum SuggestionType {
+    TITLE,
+    TAG
+}
@@ -0,0 +1,19 @@
+package com.example.bookmark.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Point-in-time view of the caches, executors, subscription sinks and connection pool
+ * (admin systemMetrics query)
+ */
+@Value
+public class SystemMetrics {
+    LocalDateTime collectedAt;
+    List<CacheMetrics> caches;
+    List<ExecutorMetrics> executors;
+    List<SubscriptionMetrics> subscriptions;
+    DatabasePoolMetrics databasePool; // null if the pool is not HikariCP or not started yet
+}
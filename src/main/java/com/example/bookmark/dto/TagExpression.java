@@ -0,0 +1,22 @@
+package com.example.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Boolean tag filter (by tag name).
+ * Maps to GraphQL TagExpressionInput type.
+ * A bookmark matches when it has every allOf tag, at least one anyOf tag
+ * and none of the noneOf tags. Empty or missing lists are ignored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagExpression {
+    private List<String> allOf;
+    private List<String> anyOf;
+    private List<String> noneOf;
+}
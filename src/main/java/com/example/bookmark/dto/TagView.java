@@ -0,0 +1,19 @@
+package com.example.bookmark.dto;
+
+import com.example.bookmark.model.Tag;
+import lombok.Value;
+
+/**
+ * Immutable tag as served from the in-memory dictionary
+ * (bookmarks are resolved separately by TagResolver)
+ */
+@Value
+public class TagView {
+    Long id;
+    String name;
+    String color;
+
+    public static TagView from(Tag tag) {
+        return new TagView(tag.getId(), tag.getName(), tag.getColor());
+    }
+}
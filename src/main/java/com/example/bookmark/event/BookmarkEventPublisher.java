@@ -2,6 +2,7 @@ package com.example.bookmark.event;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.Scannable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
@@ -41,6 +42,20 @@ public class BookmarkEventPublisher {
         return sink.asFlux();
     }
 
+    /**
+     * Number of active subscriptions
+     */
+    public int subscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+
+    /**
+     * Events buffered for subscribers that have not requested them yet
+     */
+    public int bufferedCount() {
+        return sink.scanOrDefault(Scannable.Attr.BUFFERED, 0);
+    }
+
     /**
      * Get filtered Flux for specific event types
      */
@@ -0,0 +1,106 @@
+package com.example.bookmark.event;
+
+import com.example.bookmark.dto.ImportProgress;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 가져오기(import) 진행 상황 발행기
+ *
+ * BookmarkEventPublisher와 같은 멀티캐스트 Sink로 진행 상황을 GraphQL Subscription에 전달합니다.
+ * 작업별 마지막 진행 상황과 작업을 시작한 사용자를 보관해 두므로, 늦게 구독한 클라이언트도
+ * 현재 상태부터 받고 이미 끝난 작업은 최종 상태 하나만 받습니다.
+ * 보관된 상태는 마지막 갱신 1시간 후 만료됩니다.
+ */
+@Component
+@Slf4j
+public class ImportProgressPublisher {
+
+    // 진행 상황은 누적 상태라 다음 값이 이전 값을 대체하므로, 느린 구독자는 중간 값을 건너뛰어도 됩니다
+    private final Sinks.Many<ImportProgress> sink = Sinks.many().multicast().directBestEffort();
+
+    private final Cache<String, Job> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    // 작업을 시작한 사용자와 마지막 진행 상황
+    private record Job(Long ownerId, ImportProgress latest) {
+    }
+
+    /**
+     * 작업 시작: 소유자를 기록하고 첫 진행 상황 발행
+     */
+    public void start(ImportProgress started, Long ownerId) {
+        jobs.put(started.getJobId(), new Job(ownerId, started));
+        publish(started);
+    }
+
+    /**
+     * 작업을 시작한 사용자 (알 수 없거나 만료된 작업이면 empty)
+     */
+    public Optional<Long> ownerOf(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(Job::ownerId);
+    }
+
+    /**
+     * 진행 상황 발행
+     */
+    public void publish(ImportProgress progress) {
+        jobs.asMap().compute(progress.getJobId(),
+                (jobId, job) -> new Job(job != null ? job.ownerId() : null, progress));
+        log.debug("Import {} progress: {} processed, {} imported",
+                progress.getJobId(), progress.getProcessed(), progress.getImported());
+
+        Sinks.EmitResult result = sink.tryEmitNext(progress);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("Failed to emit import progress: {}", result);
+        }
+    }
+
+    /**
+     * 한 작업의 진행 상황 스트림 (현재 상태로 시작, 작업이 끝나면 완료)
+     *
+     * Sink를 먼저 구독한 뒤 마지막 상태를 읽으므로, 그 사이에 발행된 최종 상태도
+     * 둘 중 하나에는 반드시 남습니다. 구독 후 읽기 전까지 버퍼에 쌓인 값 중
+     * 현재 상태보다 오래된 값은 건너뜁니다.
+     */
+    public Flux<ImportProgress> progressOf(String jobId) {
+        return Flux.defer(() -> {
+            Sinks.Many<ImportProgress> buffer = Sinks.many().unicast().onBackpressureBuffer();
+            Disposable subscription = sink.asFlux()
+                    .filter(progress -> progress.getJobId().equals(jobId))
+                    .subscribe(buffer::tryEmitNext);
+
+            Job job = jobs.getIfPresent(jobId);
+            ImportProgress current = job != null ? job.latest() : null;
+            if (current != null && current.isFinished()) {
+                subscription.dispose();
+                return Flux.just(current);
+            }
+            Flux<ImportProgress> updates = buffer.asFlux();
+            if (current != null) {
+                updates = updates
+                        .filter(progress -> progress.isFinished() || progress.getProcessed() > current.getProcessed())
+                        .startWith(current);
+            }
+            return updates
+                    .takeUntil(ImportProgress::isFinished)
+                    .doFinally(signal -> subscription.dispose());
+        });
+    }
+
+    /**
+     * 현재 구독 수
+     */
+    public int subscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+}
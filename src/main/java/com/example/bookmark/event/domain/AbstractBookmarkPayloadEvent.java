@@ -1,9 +1,13 @@
 package com.example.bookmark.event.domain;
 
 import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.model.Tag;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Bookmark payload를 포함하는 도메인 이벤트의 추상 기본 클래스
  *
@@ -16,17 +20,37 @@ public abstract class AbstractBookmarkPayloadEvent extends ApplicationEvent {
     private final Long bookmarkId;
     private final String title;
     private final String url;
+    private final String description;
+    private final String siteName;
+    private final List<Long> tagIds;
+    private final List<String> tagNames;
     private final Long categoryId;
+    private final Long userId;
     private final Boolean isFavorite;
     private final Integer rating;
+    private final Boolean isPublic;
+    private final Integer visitCount;
+    private final LocalDateTime lastVisitedAt;
+    // 변경 후 상태 (BookmarkChange의 after)
+    private final BookmarkState state;
 
     protected AbstractBookmarkPayloadEvent(Object source, Bookmark bookmark) {
         super(source);
         this.bookmarkId = bookmark.getId();
         this.title = bookmark.getTitle();
         this.url = bookmark.getUrl();
+        this.description = bookmark.getDescription();
+        this.siteName = bookmark.getSiteName();
+        // 이벤트는 트랜잭션 안에서 생성되므로 지연 로딩된 태그도 여기서 안전하게 읽을 수 있음
+        this.tagIds = bookmark.getTags().stream().map(Tag::getId).toList();
+        this.tagNames = bookmark.getTags().stream().map(Tag::getName).toList();
         this.categoryId = bookmark.getCategory() != null ? bookmark.getCategory().getId() : null;
+        this.userId = bookmark.getUser() != null ? bookmark.getUser().getId() : null;
         this.isFavorite = bookmark.getIsFavorite();
         this.rating = bookmark.getRating();
+        this.isPublic = bookmark.getIsPublic();
+        this.visitCount = bookmark.getVisitCount();
+        this.lastVisitedAt = bookmark.getLastVisitedAt();
+        this.state = BookmarkState.of(bookmark);
     }
 }
@@ -0,0 +1,45 @@
+package com.example.bookmark.event.domain;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Event: 일괄 생성/수정/삭제의 한 청크(트랜잭션)가 끝난 후 발행
+ *
+ * 행마다 이벤트를 발행하지 않고, 청크 하나의 변경을 행 단위 이벤트 목록으로 모아 한 번에 전달합니다.
+ * 담긴 행 단위 이벤트는 개별로 발행되지 않으며, 리스너는 목록을 순회해 같은 처리를 하되
+ * 캐시 무효화처럼 한 번이면 충분한 작업은 청크당 한 번만 수행합니다.
+ */
+@Getter
+public class BookmarkBatchEvent extends ApplicationEvent {
+
+    private final List<BookmarkCreatedEvent> created;
+    private final List<BookmarkUpdatedEvent> updated;
+    private final List<BookmarkDeletedEvent> deleted;
+
+    public BookmarkBatchEvent(Object source, List<BookmarkCreatedEvent> created,
+                              List<BookmarkUpdatedEvent> updated, List<BookmarkDeletedEvent> deleted) {
+        super(source);
+        this.created = created;
+        this.updated = updated;
+        this.deleted = deleted;
+    }
+
+    public int size() {
+        return created.size() + updated.size() + deleted.size();
+    }
+
+    /**
+     * 청크에 담긴 모든 행의 변경 전/후 상태 (생성, 수정, 삭제 순)
+     */
+    public List<BookmarkChange> changes() {
+        List<BookmarkChange> changes = new ArrayList<>(size());
+        created.forEach(event -> changes.add(event.getChange()));
+        updated.forEach(event -> changes.add(event.getChange()));
+        deleted.forEach(event -> changes.add(event.getChange()));
+        return changes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.bookmark.event.domain;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 북마크 한 건의 변경 기록 (불변): 변경 전/후 상태
+ *
+ * - 생성: before == null
+ * - 삭제: after == null
+ * - 수정: 둘 다 존재
+ *
+ * 증분 집계/인덱스를 유지하는 리스너는 이 기록만으로 O(1) 조정을 할 수 있으므로
+ * 데이터베이스를 다시 조회할 필요가 없습니다.
+ */
+public record BookmarkChange(Long bookmarkId, Long userId, BookmarkState before, BookmarkState after) {
+
+    public static BookmarkChange created(Long bookmarkId, Long userId, BookmarkState after) {
+        return new BookmarkChange(bookmarkId, userId, null, after);
+    }
+
+    public static BookmarkChange updated(Long bookmarkId, Long userId, BookmarkState before, BookmarkState after) {
+        return new BookmarkChange(bookmarkId, userId, before, after);
+    }
+
+    public static BookmarkChange deleted(Long bookmarkId, Long userId, BookmarkState before) {
+        return new BookmarkChange(bookmarkId, userId, before, null);
+    }
+
+    public boolean isCreation() {
+        return before == null;
+    }
+
+    public boolean isDeletion() {
+        return after == null;
+    }
+
+    /**
+     * 해당 필드가 바뀌었는지 (생성/삭제는 모든 필드가 바뀐 것으로 봄)
+     *
+     * 예: {@code change.changed(BookmarkState::categoryId)}
+     */
+    public boolean changed(Function<BookmarkState, ?> field) {
+        if (before == null || after == null) {
+            return true;
+        }
+        return !Objects.equals(field.apply(before), field.apply(after));
+    }
+
+    /**
+     * 텍스트(제목/URL/설명/사이트명), 카테고리, 태그 중 하나라도 바뀌었는지
+     * (false면 공개 여부/즐겨찾기/평점/방문 수 같은 신호만 바뀐 것)
+     */
+    public boolean contentChanged() {
+        return changed(BookmarkState::title) || changed(BookmarkState::url)
+                || changed(BookmarkState::description) || changed(BookmarkState::siteName)
+                || changed(BookmarkState::categoryId) || changed(BookmarkState::tagIds);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.bookmark.event.domain;
+
+/**
+ * 변경 전/후 상태(BookmarkChange)를 제공하는 북마크 도메인 이벤트
+ *
+ * 생성/수정/삭제/신호 변경 이벤트가 모두 구현하므로, 델타 기반 리스너는
+ * 이벤트 종류와 무관하게 같은 방식으로 처리할 수 있습니다.
+ */
+public interface BookmarkChangeEvent {
+
+    BookmarkChange getChange();
+}
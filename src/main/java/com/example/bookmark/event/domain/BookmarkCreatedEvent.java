@@ -10,9 +10,14 @@ import com.example.bookmark.model.Bookmark;
  * - 통계 업데이트, 알림 전송 등 부가 작업 분리
  * - 비동기 처리 가능
  */
-public class BookmarkCreatedEvent extends AbstractBookmarkPayloadEvent {
+public class BookmarkCreatedEvent extends AbstractBookmarkPayloadEvent implements BookmarkChangeEvent {
 
     public BookmarkCreatedEvent(Object source, Bookmark bookmark) {
         super(source, bookmark);
     }
+
+    @Override
+    public BookmarkChange getChange() {
+        return BookmarkChange.created(getBookmarkId(), getUserId(), getState());
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.bookmark.event.domain;
 
+import com.example.bookmark.model.Bookmark;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -7,15 +8,27 @@ import org.springframework.context.ApplicationEvent;
  * Domain Event: Bookmark 삭제 시 발행
  *
  * 삭제된 엔티티는 더 이상 존재하지 않으므로
- * ID와 필요한 최소 정보만 포함합니다.
+ * ID와 필요한 최소 정보(소유자, 삭제 직전 상태)만 포함합니다.
  */
 @Getter
-public class BookmarkDeletedEvent extends ApplicationEvent {
+public class BookmarkDeletedEvent extends ApplicationEvent implements BookmarkChangeEvent {
 
     private final Long bookmarkId;
+    private final Long userId;
+    private final Boolean isPublic;
+    // 삭제 직전 상태 (카운터/통계에서 빼기 위함)
+    private final BookmarkState lastState;
 
-    public BookmarkDeletedEvent(Object source, Long bookmarkId) {
+    public BookmarkDeletedEvent(Object source, Bookmark bookmark) {
         super(source);
-        this.bookmarkId = bookmarkId;
+        this.bookmarkId = bookmark.getId();
+        this.userId = bookmark.getUser() != null ? bookmark.getUser().getId() : null;
+        this.isPublic = bookmark.getIsPublic();
+        this.lastState = BookmarkState.of(bookmark);
+    }
+
+    @Override
+    public BookmarkChange getChange() {
+        return BookmarkChange.deleted(bookmarkId, userId, lastState);
     }
 }
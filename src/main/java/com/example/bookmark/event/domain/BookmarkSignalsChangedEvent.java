@@ -0,0 +1,47 @@
+package com.example.bookmark.event.domain;
+
+import com.example.bookmark.dto.BookmarkView;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain Event: 즐겨찾기/평점/방문 수처럼 랭킹 신호만 바뀌었을 때 발행
+ *
+ * 원자적 UPDATE 후 조회한 프로젝션으로 만들어지므로 엔티티나 태그를 로딩하지 않습니다.
+ * 제목/태그/공개 여부는 바뀌지 않았으므로 리스너는 인덱스의 신호만 교체합니다.
+ */
+@Getter
+public class BookmarkSignalsChangedEvent extends ApplicationEvent implements BookmarkChangeEvent {
+
+    private final Long bookmarkId;
+    private final Long userId;
+    private final Boolean isPublic;
+    private final Boolean isFavorite;
+    private final Integer rating;
+    private final Integer visitCount;
+    private final LocalDateTime lastVisitedAt;
+    // 변경 전/후 상태 (랭킹 신호만 다름, 태그는 읽지 않음)
+    private final BookmarkChange change;
+
+    public BookmarkSignalsChangedEvent(Object source, BookmarkView bookmark, Boolean previousIsFavorite,
+                                       Integer previousRating) {
+        this(source, bookmark, BookmarkState.of(bookmark).withSignals(previousIsFavorite, previousRating));
+    }
+
+    /**
+     * @param previous 변경 전 상태 (랭킹 신호 외에는 변경 후와 같아야 함)
+     */
+    public BookmarkSignalsChangedEvent(Object source, BookmarkView bookmark, BookmarkState previous) {
+        super(source);
+        this.bookmarkId = bookmark.getId();
+        this.userId = bookmark.getUserId();
+        this.isPublic = bookmark.getIsPublic();
+        this.isFavorite = bookmark.getIsFavorite();
+        this.rating = bookmark.getRating();
+        this.visitCount = bookmark.getVisitCount();
+        this.lastVisitedAt = bookmark.getLastVisitedAt();
+        this.change = BookmarkChange.updated(bookmarkId, userId, previous, BookmarkState.of(bookmark));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.bookmark.event.domain;
+
+import com.example.bookmark.dto.BookmarkView;
+import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.model.Tag;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 색인/집계(검색 인덱스, 통계, 카운터)에 쓰이는 북마크 필드의 한 시점 값 (불변)
+ *
+ * 수정 전에 캡처해 두면 리스너가 데이터베이스를 다시 조회하지 않고
+ * 변경 전/후 차이만큼 인덱스와 집계를 조정할 수 있습니다 (BookmarkChange 참고).
+ *
+ * tagIds가 null이면 태그를 읽지 않은 상태입니다 (원자적 UPDATE 후의 프로젝션, 또는 태그 컬렉션이
+ * 아직 로딩되지 않은 엔티티). 태그를 바꾸려면 컬렉션을 로딩해야 하므로, 변경 전/후 모두 null이면
+ * 태그는 "변경 없음"이고 한쪽만 null이면 "변경됨"으로 비교됩니다 (안전한 쪽으로 재색인).
+ */
+public record BookmarkState(String title, String url, String description, String siteName,
+                            Long categoryId, Set<Long> tagIds,
+                            Boolean isPublic, Boolean isFavorite, Integer rating,
+                            Integer visitCount, LocalDateTime lastVisitedAt) {
+
+    public static BookmarkState of(Bookmark bookmark) {
+        // getCategoryId()는 카테고리 프록시를 초기화하지 않고 외래 키만 읽음.
+        // 태그 컬렉션은 순회하면 로딩되므로, 이미 로딩된 경우에만 ID를 읽음
+        Set<Long> tagIds = Hibernate.isInitialized(bookmark.getTags())
+                ? bookmark.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet())
+                : null;
+        return new BookmarkState(bookmark.getTitle(), bookmark.getUrl(), bookmark.getDescription(),
+                bookmark.getSiteName(), bookmark.getCategoryId(), tagIds,
+                bookmark.getIsPublic(), bookmark.getIsFavorite(), bookmark.getRating(),
+                bookmark.getVisitCount(), bookmark.getLastVisitedAt());
+    }
+
+    /**
+     * 프로젝션에서 읽은 값 (태그는 읽지 않음)
+     */
+    public static BookmarkState of(BookmarkView bookmark) {
+        return new BookmarkState(bookmark.getTitle(), bookmark.getUrl(), bookmark.getDescription(),
+                bookmark.getSiteName(), bookmark.getCategoryId(), null,
+                bookmark.getIsPublic(), bookmark.getIsFavorite(), bookmark.getRating(),
+                bookmark.getVisitCount(), bookmark.getLastVisitedAt());
+    }
+
+    /**
+     * 방문 수/최근 방문 시각만 다른 값
+     */
+    public BookmarkState withVisits(Integer visitCount, LocalDateTime lastVisitedAt) {
+        return new BookmarkState(title, url, description, siteName, categoryId, tagIds,
+                isPublic, isFavorite, rating, visitCount, lastVisitedAt);
+    }
+
+    /**
+     * 즐겨찾기/평점만 다른 값
+     */
+    public BookmarkState withSignals(Boolean isFavorite, Integer rating) {
+        return new BookmarkState(title, url, description, siteName, categoryId, tagIds,
+                isPublic, isFavorite, rating, visitCount, lastVisitedAt);
+    }
+}
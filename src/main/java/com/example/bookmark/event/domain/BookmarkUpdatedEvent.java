@@ -1,16 +1,27 @@
 package com.example.bookmark.event.domain;
 
 import com.example.bookmark.model.Bookmark;
+import lombok.Getter;
 
 /**
  * Domain Event: Bookmark 수정 시 발행
  *
- * 변경된 필드에 대한 정보를 포함하여
- * 이벤트 리스너가 적절한 후속 작업을 수행할 수 있도록 합니다.
+ * 수정 후 값과 함께 수정 전 상태를 포함하여
+ * 이벤트 리스너가 바뀐 필드만큼 후속 작업을 수행할 수 있도록 합니다.
  */
-public class BookmarkUpdatedEvent extends AbstractBookmarkPayloadEvent {
+@Getter
+public class BookmarkUpdatedEvent extends AbstractBookmarkPayloadEvent implements BookmarkChangeEvent {
 
-    public BookmarkUpdatedEvent(Object source, Bookmark bookmark) {
+    // 수정 전 상태 (공개/비공개 전환 시 카운터 조정, 통계 조정, 신호만 바뀐 경우의 재색인 생략용)
+    private final BookmarkState previous;
+
+    public BookmarkUpdatedEvent(Object source, Bookmark bookmark, BookmarkState previous) {
         super(source, bookmark);
+        this.previous = previous;
+    }
+
+    @Override
+    public BookmarkChange getChange() {
+        return BookmarkChange.updated(getBookmarkId(), getUserId(), previous, getState());
     }
 }
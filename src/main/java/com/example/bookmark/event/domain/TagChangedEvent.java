@@ -0,0 +1,29 @@
+package com.example.bookmark.event.domain;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Domain Event: 태그 생성, 이름 변경 또는 삭제 시 발행
+ *
+ * 태그 이름은 여러 북마크의 검색 대상 텍스트에 포함되므로,
+ * 영향을 받는 북마크 ID 목록을 함께 전달하여 해당 북마크만 재색인할 수 있게 합니다.
+ */
+@Getter
+public class TagChangedEvent extends ApplicationEvent {
+
+    private final Long tagId;
+    private final String name;          // 변경 후 이름 (삭제 시 이전 이름)
+    private final boolean deleted;
+    private final List<Long> bookmarkIds;
+
+    public TagChangedEvent(Object source, Long tagId, String name, boolean deleted, List<Long> bookmarkIds) {
+        super(source);
+        this.tagId = tagId;
+        this.name = name;
+        this.deleted = deleted;
+        this.bookmarkIds = bookmarkIds;
+    }
+}
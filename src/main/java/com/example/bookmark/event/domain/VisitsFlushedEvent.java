@@ -0,0 +1,36 @@
+package com.example.bookmark.event.domain;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Domain Event: 버퍼링된 방문 수가 데이터베이스에 반영된 후 발행
+ *
+ * 방문 한 번마다 이벤트를 발행하지 않고, 플러시 한 번에 북마크별 방문 수 증가분과 마지막 방문 시각을 모아서 전달합니다.
+ * (검색 랭킹 신호 갱신 - DB 재조회 없음, 전체 방문 수 통계 갱신용)
+ * UPDATE가 실제로 반영된 북마크만 포함합니다 (그 사이 삭제된 북마크 제외).
+ */
+@Getter
+public class VisitsFlushedEvent extends ApplicationEvent {
+
+    /**
+     * 북마크 하나에 반영된 방문
+     * @param count 이번 플러시로 더해진 방문 수
+     * @param lastVisitedAt 버퍼에 쌓인 방문 중 가장 최근 시각
+     */
+    public record Visits(long count, LocalDateTime lastVisitedAt) {
+    }
+
+    private final Map<Long, Visits> visitsByBookmark;
+    // 이번 플러시로 더해진 방문 수 합계 (전체 방문 수 통계용)
+    private final long visits;
+
+    public VisitsFlushedEvent(Object source, Map<Long, Visits> visitsByBookmark) {
+        super(source);
+        this.visitsByBookmark = visitsByBookmark;
+        this.visits = visitsByBookmark.values().stream().mapToLong(Visits::count).sum();
+    }
+}
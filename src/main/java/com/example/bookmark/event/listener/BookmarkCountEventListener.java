@@ -0,0 +1,61 @@
+package com.example.bookmark.event.listener;
+
+import com.example.bookmark.event.domain.BookmarkBatchEvent;
+import com.example.bookmark.event.domain.BookmarkChange;
+import com.example.bookmark.event.domain.BookmarkCreatedEvent;
+import com.example.bookmark.event.domain.BookmarkDeletedEvent;
+import com.example.bookmark.event.domain.BookmarkState;
+import com.example.bookmark.event.domain.BookmarkUpdatedEvent;
+import com.example.bookmark.service.BookmarkCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 북마크 이벤트 리스너 (가시 북마크 카운터 갱신)
+ *
+ * StatisticsEventListener와 달리 @Async를 사용하지 않습니다:
+ * - 카운터 갱신은 원자 연산 몇 번이라 응답 시간에 영향 없음
+ * - 커밋 직후 같은 스레드에서 반영되므로, 방금 생성/삭제한 사용자가
+ *   바로 다음 페이지 조회에서 정확한 totalCount를 보게 됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkCountEventListener {
+
+    private final BookmarkCountService countService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkCreated(BookmarkCreatedEvent event) {
+        countService.onCreated(event.getUserId(), Boolean.TRUE.equals(event.getIsPublic()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkUpdated(BookmarkUpdatedEvent event) {
+        BookmarkChange change = event.getChange();
+        if (change.changed(BookmarkState::isPublic)) {
+            countService.onVisibilityChanged(change.userId(),
+                    Boolean.TRUE.equals(change.before().isPublic()),
+                    Boolean.TRUE.equals(change.after().isPublic()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkDeleted(BookmarkDeletedEvent event) {
+        log.debug("Decrementing bookmark counters for deleted bookmark id={}", event.getBookmarkId());
+        countService.onDeleted(event.getUserId(), Boolean.TRUE.equals(event.getIsPublic()));
+    }
+
+    /**
+     * 일괄 변경 청크: 행 단위 이벤트와 같은 규칙으로 카운터 조정
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkBatch(BookmarkBatchEvent event) {
+        event.getCreated().forEach(this::handleBookmarkCreated);
+        event.getUpdated().forEach(this::handleBookmarkUpdated);
+        event.getDeleted().forEach(this::handleBookmarkDeleted);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.bookmark.event.listener;
+
+import com.example.bookmark.event.domain.BookmarkBatchEvent;
+import com.example.bookmark.event.domain.BookmarkChange;
+import com.example.bookmark.event.domain.BookmarkCreatedEvent;
+import com.example.bookmark.event.domain.BookmarkDeletedEvent;
+import com.example.bookmark.event.domain.BookmarkSignalsChangedEvent;
+import com.example.bookmark.event.domain.BookmarkState;
+import com.example.bookmark.event.domain.BookmarkUpdatedEvent;
+import com.example.bookmark.event.domain.TagChangedEvent;
+import com.example.bookmark.event.domain.VisitsFlushedEvent;
+import com.example.bookmark.model.Tag;
+import com.example.bookmark.repository.BookmarkRepository;
+import com.example.bookmark.repository.TagRepository;
+import com.example.bookmark.search.BookmarkDocument;
+import com.example.bookmark.search.BookmarkFilterIndex;
+import com.example.bookmark.search.BookmarkSearchIndex;
+import com.example.bookmark.search.BookmarkSuggestionIndex;
+import com.example.bookmark.search.RankingSignals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 북마크 이벤트 리스너 (전문 검색 / 자동완성 / 필터 비트맵 인덱스 갱신)
+ *
+ * - 시작 시 전체 북마크로 인덱스를 한 번 구축
+ * - 이후에는 커밋된 도메인 이벤트로 변경된 북마크만 증분 색인
+ *
+ * 색인은 토큰 분리 수준의 가벼운 작업이므로 @Async 없이 커밋 직후 처리합니다.
+ * (방금 저장한 북마크가 바로 다음 검색에 나타나도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexEventListener {
+
+    private final BookmarkSearchIndex searchIndex;
+    private final BookmarkSuggestionIndex suggestionIndex;
+    private final BookmarkFilterIndex filterIndex;
+    private final BookmarkRepository bookmarkRepository;
+    private final TagRepository tagRepository;
+
+    /**
+     * 초기 인덱스 구축 (DataInitializer 실행 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<BookmarkDocument> documents = bookmarkRepository.findAllWithTags().stream()
+                .map(BookmarkDocument::from)
+                .toList();
+        searchIndex.rebuild(documents);
+        filterIndex.rebuild(documents);
+        suggestionIndex.rebuild(documents, tagRepository.findAll().stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getName)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkCreated(BookmarkCreatedEvent event) {
+        index(BookmarkDocument.from(event));
+    }
+
+    /**
+     * 북마크 수정: 변경 전/후 상태를 비교해 텍스트/카테고리/태그/공개 여부가 그대로면
+     * (방문 기록, 내용이 같은 메타데이터 갱신 등) 토큰 분리 없이 랭킹 신호만 교체
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkUpdated(BookmarkUpdatedEvent event) {
+        BookmarkChange change = event.getChange();
+        if (change.contentChanged() || change.changed(BookmarkState::isPublic)) {
+            index(BookmarkDocument.from(event));
+        } else {
+            updateSignals(change.bookmarkId(), RankingSignals.from(change.userId(), change.after()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkDeleted(BookmarkDeletedEvent event) {
+        searchIndex.remove(event.getBookmarkId());
+        suggestionIndex.remove(event.getBookmarkId());
+        filterIndex.remove(event.getBookmarkId());
+    }
+
+    /**
+     * 일괄 변경 청크: 청크에 담긴 북마크만 증분 색인
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkBatch(BookmarkBatchEvent event) {
+        event.getCreated().forEach(created -> index(BookmarkDocument.from(created)));
+        event.getUpdated().forEach(this::handleBookmarkUpdated);
+        event.getDeleted().forEach(this::handleBookmarkDeleted);
+    }
+
+    /**
+     * 즐겨찾기/평점 변경: 텍스트와 태그는 그대로이므로 랭킹 신호만 교체 (DB 조회 없음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSignalsChanged(BookmarkSignalsChangedEvent event) {
+        updateSignals(event.getBookmarkId(), RankingSignals.from(event));
+    }
+
+    /**
+     * 태그 생성/이름 변경/삭제: 태그 자동완성을 갱신하고,
+     * 해당 태그가 붙어 있던 북마크만 다시 읽어 재색인
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTagChanged(TagChangedEvent event) {
+        suggestionIndex.tagChanged(event.getTagId(), event.getName(), event.isDeleted());
+        filterIndex.tagChanged(event.getTagId(), event.getName(), event.isDeleted());
+        if (event.getBookmarkIds().isEmpty()) {
+            return;
+        }
+        log.debug("Re-indexing {} bookmarks after tag {} changed", event.getBookmarkIds().size(), event.getTagId());
+        bookmarkRepository.findAllWithTagsByIdIn(event.getBookmarkIds())
+                .forEach(bookmark -> index(BookmarkDocument.from(bookmark)));
+    }
+
+    /**
+     * 방문 수 플러시: 이벤트에 담긴 방문 수 증가분/최근 방문 시각을 랭킹 신호에 더함
+     * (DB 재조회와 토큰 분리 없음 - 검색 인덱스의 현재 신호가 기준)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleVisitsFlushed(VisitsFlushedEvent event) {
+        event.getVisitsByBookmark().forEach((bookmarkId, visits) -> {
+            RankingSignals signals = searchIndex.addVisits(bookmarkId, visits.count(), visits.lastVisitedAt());
+            if (signals != null) {
+                suggestionIndex.updateSignals(bookmarkId, signals);
+                filterIndex.updateSignals(bookmarkId, signals);
+            }
+        });
+    }
+
+    private void updateSignals(Long bookmarkId, RankingSignals signals) {
+        searchIndex.updateSignals(bookmarkId, signals);
+        suggestionIndex.updateSignals(bookmarkId, signals);
+        filterIndex.updateSignals(bookmarkId, signals);
+    }
+
+    private void index(BookmarkDocument document) {
+        searchIndex.index(document);
+        suggestionIndex.index(document);
+        filterIndex.index(document);
+    }
+}
@@ -10,6 +10,7 @@ public enum ErrorCode {
     CATEGORY_NOT_FOUND,
     TAG_NOT_FOUND,
     USER_NOT_FOUND,
+    IMPORT_JOB_NOT_FOUND,
 
     // Validation Errors (400)
     INVALID_RATING,
@@ -140,7 +140,7 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
 
     private ErrorType mapToGraphQLErrorType(BusinessException ex) {
         return switch (ex.getErrorCode()) {
-            case BOOKMARK_NOT_FOUND, CATEGORY_NOT_FOUND, TAG_NOT_FOUND, USER_NOT_FOUND ->
+            case BOOKMARK_NOT_FOUND, CATEGORY_NOT_FOUND, TAG_NOT_FOUND, USER_NOT_FOUND, IMPORT_JOB_NOT_FOUND ->
                 ErrorType.NOT_FOUND;
             case INVALID_RATING, INVALID_URL, INVALID_INPUT, INVALID_CREDENTIALS ->
                 ErrorType.BAD_REQUEST;
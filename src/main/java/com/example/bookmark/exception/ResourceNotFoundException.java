@@ -1,5 +1,7 @@
 package com.example.bookmark.exception;
 
+import java.util.Collection;
+
 /**
  * Thrown when a requested resource is not found.
  * Maps to HTTP 404 Not Found.
@@ -17,6 +19,13 @@ public class ResourceNotFoundException extends BusinessException {
         );
     }
 
+    public static ResourceNotFoundException bookmarks(Collection<Long> ids) {
+        return new ResourceNotFoundException(
+            ErrorCode.BOOKMARK_NOT_FOUND,
+            String.format("Bookmarks not found with ids: %s", ids)
+        );
+    }
+
     public static ResourceNotFoundException category(Long id) {
         return new ResourceNotFoundException(
             ErrorCode.CATEGORY_NOT_FOUND,
@@ -31,6 +40,13 @@ public class ResourceNotFoundException extends BusinessException {
         );
     }
 
+    public static ResourceNotFoundException importJob(String jobId) {
+        return new ResourceNotFoundException(
+            ErrorCode.IMPORT_JOB_NOT_FOUND,
+            String.format("Import not found with id: %s", jobId)
+        );
+    }
+
     // Name-based factory methods for consistency with DuplicateResourceException
     public static ResourceNotFoundException categoryByName(String name) {
         return new ResourceNotFoundException(
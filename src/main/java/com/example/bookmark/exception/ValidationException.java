@@ -1,5 +1,7 @@
 package com.example.bookmark.exception;
 
+import java.util.List;
+
 /**
  * Thrown when input validation fails.
  * Maps to HTTP 400 Bad Request.
@@ -24,6 +26,13 @@ public class ValidationException extends BusinessException {
         );
     }
 
+    public static ValidationException unknownTags(List<Long> tagIds) {
+        return new ValidationException(
+            ErrorCode.TAG_NOT_FOUND,
+            String.format("Tags not found with ids: %s", tagIds)
+        );
+    }
+
     public static ValidationException invalidInput(String message) {
         return new ValidationException(
             ErrorCode.INVALID_INPUT,
@@ -3,21 +3,40 @@ package com.example.bookmark.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "bookmarks")
+@Table(name = "bookmarks", indexes = {
+        // Composite keyset indexes for sortable cursor pagination (sort key, id)
+        @Index(name = "idx_bookmarks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_bookmarks_rating_id", columnList = "rating, id"),
+        @Index(name = "idx_bookmarks_visit_count_id", columnList = "visit_count, id"),
+        @Index(name = "idx_bookmarks_last_visited_at_id", columnList = "last_visited_at, id")
+})
+// Entity updates write only the changed columns, so saving a bookmark never overwrites
+// favorite/rating values set concurrently by the in-place UPDATEs
+@DynamicUpdate
+// The in-memory bitmap indexes store ids as 32-bit values (BookmarkFilterIndex.bitmapId):
+// a sequence value beyond that range fails the INSERT instead of the indexing after commit
+@Check(constraints = "id <= 2147483647")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Bookmark {
+public class Bookmark implements BookmarkReference {
 
+    // Pooled sequence: ids are handed out from blocks of 50 without an INSERT,
+    // so Hibernate can batch inserts (IDENTITY forces one INSERT per row)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmark_seq")
+    @SequenceGenerator(name = "bookmark_seq", sequenceName = "bookmarks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -28,13 +47,19 @@ public class Bookmark {
 
     private String description;
 
+    // Associations are excluded from toString/equals/hashCode so that logging or
+    // hashing a bookmark never triggers lazy loading (they are batch-loaded by DataLoaders)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Category category;
 
     // Owner of the bookmark
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     // Many-to-Many relationship with Tags
@@ -44,6 +69,8 @@ public class Bookmark {
             joinColumns = @JoinColumn(name = "bookmark_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Tag> tags = new HashSet<>();
 
     // Favorites and Rating
@@ -53,11 +80,12 @@ public class Bookmark {
     @Column(name = "rating")
     private Integer rating; // 1-5 stars
 
-    // Visit tracking
-    @Column(name = "visit_count", nullable = false)
+    // Visit tracking - written only by relative SQL updates (visit_count = visit_count + n),
+    // never by an entity update, so visits cannot be lost to a stale entity
+    @Column(name = "visit_count", nullable = false, updatable = false)
     private Integer visitCount = 0;
 
-    @Column(name = "last_visited_at")
+    @Column(name = "last_visited_at", updatable = false)
     private LocalDateTime lastVisitedAt;
 
     // Privacy
@@ -91,7 +119,8 @@ public class Bookmark {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Imports keep the original creation date
+        if (createdAt == null) createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
         if (isFavorite == null) isFavorite = false;
         if (isPublic == null) isPublic = true;
@@ -127,10 +156,15 @@ public class Bookmark {
         this.metadataFetched = false;
     }
 
-    // Helper method to record a visit
-    public void recordVisit() {
-        this.visitCount++;
-        this.lastVisitedAt = LocalDateTime.now();
+    // Foreign key ids (reading the id of a lazy proxy does not initialize it)
+    @Override
+    public Long getCategoryId() {
+        return category != null ? category.getId() : null;
+    }
+
+    @Override
+    public Long getUserId() {
+        return user != null ? user.getId() : null;
     }
 
     // Helper method to add tags
@@ -0,0 +1,18 @@
+package com.example.bookmark.model;
+
+/**
+ * What the GraphQL field resolvers need from a bookmark to load its associations:
+ * its own id and the foreign key ids.
+ *
+ * Implemented by the entity and by the BookmarkView projection, so a mutation can
+ * answer with a projection and still resolve category, tags and user through the
+ * DataLoaders.
+ */
+public interface BookmarkReference {
+
+    Long getId();
+
+    Long getCategoryId();
+
+    Long getUserId();
+}
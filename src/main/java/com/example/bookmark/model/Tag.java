@@ -3,7 +3,9 @@ package com.example.bookmark.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -25,6 +27,8 @@ public class Tag {
     private String color; // 태그 색상 (헥스 코드)
 
     @ManyToMany(mappedBy = "tags")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Bookmark> bookmarks = new HashSet<>();
 
     public Tag(String name, String color) {
@@ -0,0 +1,88 @@
+package com.example.bookmark.repository;
+
+import com.example.bookmark.dto.BookmarkView;
+import com.example.bookmark.model.Bookmark;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Columns a projection query can select into a {@link BookmarkView}
+ * (see {@link BookmarkRepositoryCustom#findViews}).
+ *
+ * Associations are selected as their foreign key (category.id, user.id), which is read
+ * from the bookmark row without a join; tags need nothing but the id.
+ */
+public enum BookmarkColumn {
+    ID("id", (view, value) -> view.setId((Long) value)),
+    TITLE("title", (view, value) -> view.setTitle((String) value)),
+    URL("url", (view, value) -> view.setUrl((String) value)),
+    DESCRIPTION("description", (view, value) -> view.setDescription((String) value)),
+    IS_FAVORITE("isFavorite", (view, value) -> view.setIsFavorite((Boolean) value)),
+    RATING("rating", (view, value) -> view.setRating((Integer) value)),
+    VISIT_COUNT("visitCount", (view, value) -> view.setVisitCount((Integer) value)),
+    LAST_VISITED_AT("lastVisitedAt", (view, value) -> view.setLastVisitedAt((LocalDateTime) value)),
+    IS_PUBLIC("isPublic", (view, value) -> view.setIsPublic((Boolean) value)),
+    THUMBNAIL_URL("thumbnailUrl", (view, value) -> view.setThumbnailUrl((String) value)),
+    FAVICON_URL("faviconUrl", (view, value) -> view.setFaviconUrl((String) value)),
+    SITE_NAME("siteName", (view, value) -> view.setSiteName((String) value)),
+    AUTHOR("author", (view, value) -> view.setAuthor((String) value)),
+    PUBLISHED_DATE("publishedDate", (view, value) -> view.setPublishedDate((LocalDateTime) value)),
+    METADATA_FETCHED("metadataFetched", (view, value) -> view.setMetadataFetched((Boolean) value)),
+    CREATED_AT("createdAt", (view, value) -> view.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", (view, value) -> view.setUpdatedAt((LocalDateTime) value)),
+    CATEGORY_ID("category", (view, value) -> view.setCategoryId((Long) value)),
+    USER_ID("user", (view, value) -> view.setUserId((Long) value));
+
+    private final String attribute;
+    private final BiConsumer<BookmarkView, Object> setter;
+
+    BookmarkColumn(String attribute, BiConsumer<BookmarkView, Object> setter) {
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    /**
+     * The columns needed to serve the given Bookmark fields, or empty if one of them
+     * cannot be served from a projection (the caller then loads entities)
+     */
+    public static Optional<Set<BookmarkColumn>> forFields(Collection<String> fields) {
+        Set<BookmarkColumn> columns = EnumSet.of(ID);
+        for (String field : fields) {
+            if (field.equals("tags") || field.equals("__typename")) {
+                continue; // tags are batch-loaded by bookmark id
+            }
+            Optional<BookmarkColumn> column = forAttribute(field);
+            if (column.isEmpty()) {
+                return Optional.empty();
+            }
+            columns.add(column.get());
+        }
+        return Optional.of(columns);
+    }
+
+    private static Optional<BookmarkColumn> forAttribute(String attribute) {
+        for (BookmarkColumn column : values()) {
+            if (column.attribute.equals(attribute)) {
+                return Optional.of(column);
+            }
+        }
+        return Optional.empty();
+    }
+
+    Path<?> path(Root<Bookmark> root) {
+        return this == CATEGORY_ID || this == USER_ID
+                ? root.get(attribute).get("id")
+                : root.get(attribute);
+    }
+
+    void apply(BookmarkView view, Object value) {
+        setter.accept(view, value);
+    }
+}
@@ -1,63 +1,82 @@
 package com.example.bookmark.repository;
 
+import com.example.bookmark.dto.BookmarkView;
 import com.example.bookmark.model.Bookmark;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
-    // Basic queries
-    List<Bookmark> findByCategoryId(Long categoryId);
-    List<Bookmark> findByTitleContainingIgnoreCase(String title);
-
-    // Favorites
-    List<Bookmark> findByIsFavoriteTrue();
-    Page<Bookmark> findByIsFavoriteTrue(Pageable pageable);
-
-    // Public bookmarks
-    List<Bookmark> findByIsPublicTrue();
-    Page<Bookmark> findByIsPublicTrue(Pageable pageable);
-
-    // Rating queries
-    List<Bookmark> findByRatingGreaterThanEqual(Integer rating);
-    Page<Bookmark> findByRatingGreaterThanEqual(Integer rating, Pageable pageable);
-
-    // Advanced search with tags
-    @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN FETCH b.tags t WHERE " +
-           "(:query IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(b.description) LIKE LOWER(CONCAT('%', :query, '%'))) " +
-           "AND (:categoryId IS NULL OR b.category.id = :categoryId) " +
-           "AND (:tagName IS NULL OR t.name = :tagName) " +
-           "AND (:isFavorite IS NULL OR b.isFavorite = :isFavorite) " +
-           "AND (:minRating IS NULL OR b.rating >= :minRating)")
-    List<Bookmark> searchBookmarks(
-            @Param("query") String query,
-            @Param("categoryId") Long categoryId,
-            @Param("tagName") String tagName,
-            @Param("isFavorite") Boolean isFavorite,
-            @Param("minRating") Integer minRating
-    );
-
-    // Find bookmarks by tag
-    @Query("SELECT DISTINCT b FROM Bookmark b JOIN b.tags t WHERE t.name = :tagName")
-    List<Bookmark> findByTagName(@Param("tagName") String tagName);
-
-    @Query("SELECT DISTINCT b FROM Bookmark b JOIN b.tags t WHERE t.id = :tagId")
-    List<Bookmark> findByTagId(@Param("tagId") Long tagId);
-
-    // Most visited bookmarks
-    @Query("SELECT b FROM Bookmark b ORDER BY b.visitCount DESC")
-    List<Bookmark> findMostVisited(Pageable pageable);
-
-    // Recently visited
-    @Query("SELECT b FROM Bookmark b WHERE b.lastVisitedAt IS NOT NULL ORDER BY b.lastVisitedAt DESC")
-    List<Bookmark> findRecentlyVisited(Pageable pageable);
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long>,
+        JpaSpecificationExecutor<Bookmark>, BookmarkRepositoryCustom {
+    // List queries are expressed as Specifications (see BookmarkSpecifications)
+    // so that the visibility predicate is always applied in SQL.
+
+    // Search index loading (tags fetched in the same query)
+    @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN FETCH b.tags")
+    List<Bookmark> findAllWithTags();
+
+    @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN FETCH b.tags WHERE b.id IN :ids")
+    List<Bookmark> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Atomic in-place updates: one conditional UPDATE, the owner check is part of the
+    // WHERE clause (ownerId null = admin). Returns 0 if missing or not owned.
+    @Modifying
+    @Query("UPDATE Bookmark b SET b.isFavorite = CASE WHEN b.isFavorite = true THEN false ELSE true END, " +
+           "b.updatedAt = :now WHERE b.id = :id AND (:ownerId IS NULL OR b.user.id = :ownerId)")
+    int toggleFavorite(@Param("id") Long id, @Param("ownerId") Long ownerId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Bookmark b SET b.visitCount = b.visitCount + 1, b.lastVisitedAt = :now WHERE b.id = :id")
+    int incrementVisitCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Same conditional UPDATE, also returning the replaced rating in the same statement
+    // (H2 data change delta table): one [id, previous rating] row, none if missing or not owned
+    @Transactional
+    @Query(value = "SELECT id, rating FROM OLD TABLE (UPDATE bookmarks SET rating = :rating, updated_at = :now " +
+                   "WHERE id = :id AND (CAST(:ownerId AS BIGINT) IS NULL OR user_id = :ownerId))",
+           nativeQuery = true)
+    List<Object[]> updateRating(@Param("id") Long id, @Param("ownerId") Long ownerId,
+                                @Param("rating") Integer rating, @Param("now") LocalDateTime now);
+
+    // Owners of many bookmarks at once (bulk authorization: id, owner id)
+    @Query("SELECT b.id, b.user.id FROM Bookmark b WHERE b.id IN :ids")
+    List<Object[]> findOwnerIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Export: forward-only cursor over the user's bookmarks in id order. Must be consumed
+    // inside a transaction and closed; rows are fetched from the driver 500 at a time and
+    // loaded read-only (no dirty-checking snapshot)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Bookmark b WHERE b.user.id = :userId ORDER BY b.id")
+    Stream<Bookmark> streamByUserId(@Param("userId") Long userId);
+
+    // Import de-duplication: which of these urls the user has bookmarked already
+    @Query("SELECT b.url FROM Bookmark b WHERE b.user.id = :userId AND b.url IN :urls")
+    List<String> findUrlsByUserIdAndUrlIn(@Param("userId") Long userId, @Param("urls") Collection<String> urls);
+
+    // Scalar projection (foreign key ids are read from the row, no join)
+    @Query("SELECT new com.example.bookmark.dto.BookmarkView(b.id, b.title, b.url, b.description, " +
+           "b.isFavorite, b.rating, b.visitCount, b.lastVisitedAt, b.isPublic, b.thumbnailUrl, " +
+           "b.faviconUrl, b.siteName, b.author, b.publishedDate, b.metadataFetched, " +
+           "b.createdAt, b.updatedAt, b.category.id, b.user.id) " +
+           "FROM Bookmark b WHERE b.id = :id")
+    Optional<BookmarkView> findViewById(@Param("id") Long id);
 
     // Statistics
     @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.isFavorite = true")
@@ -66,20 +85,36 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.category.id = :categoryId")
     Long countByCategory(@Param("categoryId") Long categoryId);
 
+    // Visibility counters (seed values for BookmarkCountService)
+    @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.isPublic = true")
+    long countPublic();
+
+    @Query("SELECT b.user.id, COUNT(b) FROM Bookmark b WHERE b.isPublic = false GROUP BY b.user.id")
+    List<Object[]> countPrivateByUser();
+
     @Query("SELECT COALESCE(SUM(b.visitCount), 0) FROM Bookmark b")
     Long getTotalVisits();
 
     @Query("SELECT COALESCE(AVG(b.rating), 0.0) FROM Bookmark b WHERE b.rating IS NOT NULL")
     Double getAverageRating();
 
+    // Seed/reconciliation values for BookmarkStatisticsStore, one row:
+    // total, favorites, visit sum, rating sum, rated count
+    @Query("SELECT COUNT(b), " +
+           "COALESCE(SUM(CASE WHEN b.isFavorite = true THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(b.visitCount), 0), " +
+           "COALESCE(SUM(b.rating), 0), " +
+           "COUNT(b.rating) " +
+           "FROM Bookmark b")
+    List<Object[]> getStatisticsTotals();
+
+    @Query("SELECT b.category.id, COUNT(b) FROM Bookmark b WHERE b.category IS NOT NULL GROUP BY b.category.id")
+    List<Object[]> countByCategoryGrouped();
+
     // Optimized category statistics - solves N+1 problem
     @Query("SELECT new com.example.bookmark.dto.CategoryStatistics(c.id, c.name, COUNT(b.id)) " +
            "FROM Category c LEFT JOIN c.bookmarks b " +
            "GROUP BY c.id, c.name " +
            "ORDER BY c.name")
     List<com.example.bookmark.dto.CategoryStatistics> getCategoryStatistics();
-
-    // Cursor-based pagination
-    @Query("SELECT b FROM Bookmark b WHERE b.id > :afterId ORDER BY b.id ASC")
-    List<Bookmark> findByIdGreaterThanOrderByIdAsc(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,38 @@
+package com.example.bookmark.repository;
+
+import com.example.bookmark.dto.BookmarkView;
+import com.example.bookmark.model.Bookmark;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Custom repository fragment for bookmark queries that Spring Data
+ * cannot derive from method names.
+ */
+public interface BookmarkRepositoryCustom {
+
+    /**
+     * Find the first {@code limit} bookmarks matching the specification.
+     * Unlike findAll(Specification, Pageable) no count query is issued.
+     */
+    List<Bookmark> findTop(Specification<Bookmark> spec, Sort sort, int limit);
+
+    /**
+     * Find one keyset page ordered by (property, id) in the given direction.
+     * Null keys sort as the lowest value (first when ascending, last when descending),
+     * matching {@link BookmarkSpecifications#after}.
+     */
+    List<Bookmark> findPage(Specification<Bookmark> spec, String property, boolean descending, int limit);
+
+    /**
+     * Find the bookmarks matching the specification as {@link BookmarkView}s holding only the
+     * given columns (one tuple query: no entity is instantiated, nothing is snapshotted for
+     * dirty checking, unselected columns stay null).
+     *
+     * @param limit maximum rows, or null for all
+     */
+    List<BookmarkView> findViews(Specification<Bookmark> spec, Sort sort, Set<BookmarkColumn> columns, Integer limit);
+}
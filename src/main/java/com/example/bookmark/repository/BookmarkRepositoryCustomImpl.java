@@ -0,0 +1,109 @@
+package com.example.bookmark.repository;
+
+import com.example.bookmark.dto.BookmarkView;
+import com.example.bookmark.model.Bookmark;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Criteria API implementation of {@link BookmarkRepositoryCustom}.
+ */
+public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Bookmark> findTop(Specification<Bookmark> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Bookmark> query = cb.createQuery(Bookmark.class);
+        Root<Bookmark> root = query.from(Bookmark.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Bookmark> findPage(Specification<Bookmark> spec, String property, boolean descending, int limit) {
+        // Hibernate's builder is needed for explicit NULLS FIRST/LAST (not part of JPA 3.1)
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Bookmark> query = cb.createQuery(Bookmark.class);
+        Root<Bookmark> root = query.from(Bookmark.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (!"id".equals(property)) {
+            orders.add(descending
+                    ? cb.desc(root.get(property), false)
+                    : cb.asc(root.get(property), true));
+        }
+        orders.add(descending ? cb.desc(root.get("id")) : cb.asc(root.get("id")));
+        query.select(root).orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<BookmarkView> findViews(Specification<Bookmark> spec, Sort sort, Set<BookmarkColumn> columns,
+                                        Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Bookmark> root = query.from(Bookmark.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<BookmarkColumn> selected = List.copyOf(columns);
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (BookmarkColumn column : selected) {
+            selections.add(column.path(root));
+        }
+        query.multiselect(selections).orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        List<Tuple> tuples = typedQuery.getResultList();
+
+        List<BookmarkView> views = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            BookmarkView view = new BookmarkView();
+            for (int i = 0; i < selected.size(); i++) {
+                selected.get(i).apply(view, tuple.get(i));
+            }
+            views.add(view);
+        }
+        return views;
+    }
+}
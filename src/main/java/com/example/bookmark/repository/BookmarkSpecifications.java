@@ -0,0 +1,214 @@
+package com.example.bookmark.repository;
+
+import com.example.bookmark.dto.BookmarkFilter;
+import com.example.bookmark.dto.TagExpression;
+import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.model.Tag;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Reusable JPA Specifications for bookmark queries.
+ *
+ * Every read goes through {@link #viewableBy(Long, boolean)} so that the
+ * database only returns rows the caller is allowed to see - visibility is
+ * never filtered in Java after the fact (which breaks LIMIT based queries).
+ */
+public final class BookmarkSpecifications {
+
+    private BookmarkSpecifications() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Visibility predicate: public OR owned by the viewer OR viewer is admin
+     *
+     * @param viewerId current user id (null for anonymous)
+     * @param admin whether the current user is an administrator
+     */
+    public static Specification<Bookmark> viewableBy(Long viewerId, boolean admin) {
+        return (root, query, cb) -> {
+            if (admin) {
+                return cb.conjunction();
+            }
+            Predicate isPublic = cb.isTrue(root.get("isPublic"));
+            if (viewerId == null) {
+                return isPublic;
+            }
+            return cb.or(isPublic, cb.equal(root.get("user").get("id"), viewerId));
+        };
+    }
+
+    public static Specification<Bookmark> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Bookmark> inCategories(Collection<Long> categoryIds) {
+        return (root, query, cb) -> root.get("category").get("id").in(categoryIds);
+    }
+
+    /**
+     * Bookmarks whose id is in the given set (e.g. full-text search hits from the in-memory index)
+     */
+    public static Specification<Bookmark> idIn(long[] ids) {
+        return (root, query, cb) -> ids.length == 0
+                ? cb.disjunction()
+                : root.get("id").in(Arrays.stream(ids).boxed().toList());
+    }
+
+    public static Specification<Bookmark> titleOrDescriptionContains(String text) {
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), likePattern(text)),
+                cb.like(cb.lower(root.get("description")), likePattern(text))
+        );
+    }
+
+    /**
+     * Bookmarks having a tag with the given name.
+     * Uses an IN subquery instead of a join so the bookmark's own tag
+     * collection is never truncated and no DISTINCT is needed.
+     */
+    public static Specification<Bookmark> hasTagNamed(String tagName) {
+        return (root, query, cb) -> {
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Bookmark> subRoot = tagged.from(Bookmark.class);
+            Join<Bookmark, Tag> tag = subRoot.join("tags");
+            tagged.select(subRoot.get("id")).where(cb.equal(tag.get("name"), tagName));
+            return root.get("id").in(tagged);
+        };
+    }
+
+    /**
+     * Bookmarks having at least one tag with one of the given names (same subquery form)
+     */
+    public static Specification<Bookmark> hasAnyTagNamed(Collection<String> tagNames) {
+        return (root, query, cb) -> {
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Bookmark> subRoot = tagged.from(Bookmark.class);
+            Join<Bookmark, Tag> tag = subRoot.join("tags");
+            tagged.select(subRoot.get("id")).where(tag.get("name").in(tagNames));
+            return root.get("id").in(tagged);
+        };
+    }
+
+    /**
+     * Bookmarks having at least one of the given tags (same subquery form)
+     */
+    public static Specification<Bookmark> hasAnyTag(Collection<Long> tagIds) {
+        return (root, query, cb) -> {
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Bookmark> subRoot = tagged.from(Bookmark.class);
+            Join<Bookmark, Tag> tag = subRoot.join("tags");
+            tagged.select(subRoot.get("id")).where(tag.get("id").in(tagIds));
+            return root.get("id").in(tagged);
+        };
+    }
+
+    public static Specification<Bookmark> isFavorite(Boolean favorite) {
+        return (root, query, cb) -> cb.equal(root.get("isFavorite"), favorite);
+    }
+
+    public static Specification<Bookmark> isPublic(Boolean isPublic) {
+        return (root, query, cb) -> cb.equal(root.get("isPublic"), isPublic);
+    }
+
+    public static Specification<Bookmark> ratingAtLeast(Integer minRating) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("rating"), minRating);
+    }
+
+    public static Specification<Bookmark> visited() {
+        return (root, query, cb) -> cb.isNotNull(root.get("lastVisitedAt"));
+    }
+
+    /**
+     * Keyset (seek) predicate: rows strictly after (key, id) in the given order.
+     *
+     * Must be paired with {@link BookmarkRepositoryCustom#findPage} which orders by
+     * (property, id) with nulls sorting as the lowest value in both directions.
+     *
+     * @param property sort attribute ("id" for plain id order)
+     * @param descending sort direction
+     * @param key sort key of the last row of the previous page (may be null)
+     * @param id id of the last row of the previous page
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Bookmark> after(String property, boolean descending, Comparable key, Long id) {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            Predicate idBeyond = descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+            if ("id".equals(property)) {
+                return idBeyond;
+            }
+
+            Path<Comparable> keyPath = root.get(property);
+            if (key == null) {
+                // Nulls come first in ascending order, last in descending order
+                Predicate sameNullKey = cb.and(cb.isNull(keyPath), idBeyond);
+                return descending ? sameNullKey : cb.or(sameNullKey, cb.isNotNull(keyPath));
+            }
+
+            Predicate keyBeyond = descending ? cb.lessThan(keyPath, key) : cb.greaterThan(keyPath, key);
+            Predicate sameKey = cb.and(cb.equal(keyPath, key), idBeyond);
+            return descending
+                    ? cb.or(keyBeyond, sameKey, cb.isNull(keyPath))
+                    : cb.or(keyBeyond, sameKey);
+        };
+    }
+
+    /**
+     * Combine all non-null structured criteria of an advanced search filter.
+     * The free-text query is not included - it is resolved through the search index.
+     */
+    public static Specification<Bookmark> matching(BookmarkFilter filter) {
+        Specification<Bookmark> spec = Specification.where(null);
+        if (filter.getCategoryId() != null) {
+            spec = spec.and(inCategory(filter.getCategoryId()));
+        }
+        if (filter.getTagName() != null) {
+            spec = spec.and(hasTagNamed(filter.getTagName()));
+        }
+        if (filter.getTags() != null) {
+            spec = spec.and(matchingTags(filter.getTags()));
+        }
+        if (filter.getIsFavorite() != null) {
+            spec = spec.and(isFavorite(filter.getIsFavorite()));
+        }
+        if (filter.getMinRating() != null) {
+            spec = spec.and(ratingAtLeast(filter.getMinRating()));
+        }
+        if (filter.getIsPublic() != null) {
+            spec = spec.and(isPublic(filter.getIsPublic()));
+        }
+        return spec;
+    }
+
+    /**
+     * SQL form of a tag expression (used until the bitmap filter index is built)
+     */
+    private static Specification<Bookmark> matchingTags(TagExpression tags) {
+        Specification<Bookmark> spec = Specification.where(null);
+        if (tags.getAllOf() != null) {
+            for (String tagName : tags.getAllOf()) {
+                spec = spec.and(hasTagNamed(tagName));
+            }
+        }
+        if (tags.getAnyOf() != null && !tags.getAnyOf().isEmpty()) {
+            spec = spec.and(hasAnyTagNamed(tags.getAnyOf()));
+        }
+        if (tags.getNoneOf() != null && !tags.getNoneOf().isEmpty()) {
+            spec = spec.and(Specification.not(hasAnyTagNamed(tags.getNoneOf())));
+        }
+        return spec;
+    }
+
+    private static String likePattern(String text) {
+        return "%" + text.toLowerCase() + "%";
+    }
+}
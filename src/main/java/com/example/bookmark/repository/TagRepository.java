@@ -2,9 +2,12 @@ package com.example.bookmark.repository;
 
 import com.example.bookmark.model.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +20,22 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
     @Query("SELECT DISTINCT t FROM Tag t JOIN t.bookmarks b WHERE b.id = :bookmarkId")
     List<Tag> findByBookmarkId(Long bookmarkId);
+
+    // Batch loading for DataLoader - returns (bookmarkId, tagId) pairs in a single IN query
+    // (the tags themselves come from CategoryTagDictionary)
+    @Query("SELECT b.id, t.id FROM Bookmark b JOIN b.tags t WHERE b.id IN :bookmarkIds")
+    List<Object[]> findTagIdsByBookmarkIds(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+    // Batch loading of Tag.bookmarks - (bookmarkId, tagId) pairs of the given tags
+    @Query("SELECT b.id, t.id FROM Bookmark b JOIN b.tags t WHERE t.id IN :tagIds")
+    List<Object[]> findBookmarkIdsByTagIds(@Param("tagIds") Collection<Long> tagIds);
+
+    // Ids of the bookmarks carrying the tag, without loading the bookmarks
+    @Query("SELECT b.id FROM Bookmark b JOIN b.tags t WHERE t.id = :tagId")
+    List<Long> findBookmarkIdsByTagId(@Param("tagId") Long tagId);
+
+    // Removes every bookmark_tags row of the tag in one statement (Bookmark owns the join table)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM bookmark_tags WHERE tag_id = :tagId", nativeQuery = true)
+    int unlinkBookmarks(@Param("tagId") Long tagId);
 }
@@ -0,0 +1,50 @@
+package com.example.bookmark.resolver;
+
+import com.example.bookmark.config.DataLoaderConfig;
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.model.BookmarkReference;
+import com.example.bookmark.model.User;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * GraphQL field resolver for Bookmark associations.
+ *
+ * Resolves category, tags and user through per-request DataLoaders
+ * (see DataLoaderConfig) so that a list of N bookmarks costs one
+ * IN (...) query per field instead of N lazy loads.
+ *
+ * Only foreign key ids are read from the bookmark - accessing the id
+ * of a lazy proxy does not initialize it. The source is a BookmarkReference,
+ * so mutations answering with a BookmarkView projection resolve the same way.
+ */
+@Controller
+public class BookmarkFieldResolver {
+
+    @SchemaMapping(typeName = "Bookmark", field = "category")
+    public CompletableFuture<CategoryView> category(BookmarkReference bookmark, DataFetchingEnvironment env) {
+        if (bookmark.getCategoryId() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        DataLoader<Long, CategoryView> loader = env.getDataLoader(DataLoaderConfig.CATEGORY_LOADER);
+        return loader.load(bookmark.getCategoryId());
+    }
+
+    @SchemaMapping(typeName = "Bookmark", field = "tags")
+    public CompletableFuture<List<TagView>> tags(BookmarkReference bookmark, DataFetchingEnvironment env) {
+        DataLoader<Long, List<TagView>> loader = env.getDataLoader(DataLoaderConfig.TAGS_LOADER);
+        return loader.load(bookmark.getId());
+    }
+
+    @SchemaMapping(typeName = "Bookmark", field = "user")
+    public CompletableFuture<User> user(BookmarkReference bookmark, DataFetchingEnvironment env) {
+        DataLoader<Long, User> loader = env.getDataLoader(DataLoaderConfig.USER_LOADER);
+        return loader.load(bookmark.getUserId());
+    }
+}
@@ -2,10 +2,12 @@ package com.example.bookmark.resolver;
 
 import com.example.bookmark.dto.*;
 import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.model.BookmarkReference;
 import com.example.bookmark.service.BookmarkCommandService;
 import com.example.bookmark.service.BookmarkMetadataService;
 import com.example.bookmark.service.BookmarkQueryService;
 import com.example.bookmark.service.BookmarkStatisticsService;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
@@ -36,13 +38,73 @@ public class BookmarkResolver {
     // ========== Query Operations ==========
 
     @QueryMapping
-    public List<Bookmark> bookmarks() {
-        return queryService.findAll();
+    public List<? extends BookmarkReference> bookmarks(DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findAll(BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public BookmarkConnection bookmarksConnection(@Argument Integer first, @Argument String after) {
-        return queryService.findWithCursor(first, after);
+    public BookmarkConnection bookmarksConnection(@Argument Integer first, @Argument String after,
+                                                  @Argument BookmarkSortField sortBy,
+                                                  @Argument SortDirection direction,
+                                                  DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findWithCursor(first, after, sortBy, direction,
+                selectionSet.contains("totalCount"));
+    }
+
+    @QueryMapping
+    public BookmarkConnection bookmarksByCategoryConnection(@Argument Long categoryId,
+                                                            @Argument Integer first, @Argument String after,
+                                                            DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findByCategoryWithCursor(categoryId, first, after,
+                selectionSet.contains("totalCount"));
+    }
+
+    @QueryMapping
+    public BookmarkConnection searchBookmarksConnection(@Argument String query,
+                                                        @Argument Integer first, @Argument String after,
+                                                        DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.searchByTitleWithCursor(query, first, after,
+                selectionSet.contains("totalCount"));
+    }
+
+    @QueryMapping
+    public BookmarkConnection advancedSearchConnection(@Argument BookmarkFilter filter,
+                                                       @Argument Integer first, @Argument String after,
+                                                       DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.advancedSearchWithCursor(filter, first, after,
+                selectionSet.contains("totalCount"));
+    }
+
+    @QueryMapping
+    public SearchFacets searchFacets(@Argument BookmarkFilter filter,
+                                     @Argument Integer first, @Argument String after,
+                                     @Argument Integer facetLimit,
+                                     DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.searchFacets(filter, first, after, facetLimit,
+                selectionSet.contains("results/totalCount"));
+    }
+
+    @QueryMapping
+    public BookmarkConnection favoriteBookmarksConnection(@Argument Integer first, @Argument String after,
+                                                          DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findFavoritesWithCursor(first, after,
+                selectionSet.contains("totalCount"));
+    }
+
+    @QueryMapping
+    public BookmarkConnection bookmarksByTagConnection(@Argument String tagName,
+                                                       @Argument Integer first, @Argument String after,
+                                                       DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findByTagWithCursor(tagName, first, after,
+                selectionSet.contains("totalCount"));
+    }
+
+    @QueryMapping
+    public BookmarkConnection topRatedBookmarksConnection(@Argument Integer minRating,
+                                                          @Argument Integer first, @Argument String after,
+                                                          DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findTopRatedWithCursor(minRating, first, after,
+                selectionSet.contains("totalCount"));
     }
 
     @QueryMapping
@@ -51,43 +113,61 @@ public class BookmarkResolver {
     }
 
     @QueryMapping
-    public List<Bookmark> bookmarksByCategory(@Argument Long categoryId) {
-        return queryService.findByCategory(categoryId);
+    public List<? extends BookmarkReference> bookmarksByCategory(@Argument Long categoryId,
+                                                                 DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findByCategory(categoryId, BookmarkSelections.columns(selectionSet));
+    }
+
+    @QueryMapping
+    public List<? extends BookmarkReference> searchBookmarks(@Argument String query,
+                                                             DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.searchByTitle(query, BookmarkSelections.columns(selectionSet));
+    }
+
+    @QueryMapping
+    public List<? extends BookmarkReference> rankedSearch(@Argument String query, @Argument Integer limit,
+                                                          DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.rankedSearch(query, limit, BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public List<Bookmark> searchBookmarks(@Argument String query) {
-        return queryService.searchByTitle(query);
+    public List<Suggestion> suggest(@Argument String prefix, @Argument Integer limit) {
+        return queryService.suggest(prefix, limit);
     }
 
     @QueryMapping
-    public List<Bookmark> advancedSearch(@Argument BookmarkFilter filter) {
-        return queryService.advancedSearch(filter);
+    public List<? extends BookmarkReference> advancedSearch(@Argument BookmarkFilter filter,
+                                                            DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.advancedSearch(filter, BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public List<Bookmark> favoriteBookmarks() {
-        return queryService.findFavorites();
+    public List<? extends BookmarkReference> favoriteBookmarks(DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findFavorites(BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public List<Bookmark> bookmarksByTag(@Argument String tagName) {
-        return queryService.findByTag(tagName);
+    public List<? extends BookmarkReference> bookmarksByTag(@Argument String tagName,
+                                                            DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findByTag(tagName, BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public List<Bookmark> mostVisitedBookmarks(@Argument Integer limit) {
-        return queryService.findMostVisited(limit);
+    public List<? extends BookmarkReference> mostVisitedBookmarks(@Argument Integer limit,
+                                                                  DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findMostVisited(limit, BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public List<Bookmark> recentlyVisitedBookmarks(@Argument Integer limit) {
-        return queryService.findRecentlyVisited(limit);
+    public List<? extends BookmarkReference> recentlyVisitedBookmarks(@Argument Integer limit,
+                                                                      DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findRecentlyVisited(limit, BookmarkSelections.columns(selectionSet));
     }
 
     @QueryMapping
-    public List<Bookmark> topRatedBookmarks(@Argument Integer minRating) {
-        return queryService.findTopRated(minRating);
+    public List<? extends BookmarkReference> topRatedBookmarks(@Argument Integer minRating,
+                                                               DataFetchingFieldSelectionSet selectionSet) {
+        return queryService.findTopRated(minRating, BookmarkSelections.columns(selectionSet));
     }
 
     // ========== Statistics Operations ==========
@@ -146,17 +226,37 @@ public class BookmarkResolver {
     }
 
     @MutationMapping
-    public Bookmark recordVisit(@Argument Long id) {
+    public List<Bookmark> createBookmarks(@Argument List<CreateBookmarkInput> inputs) {
+        return commandService.createAll(inputs);
+    }
+
+    @MutationMapping
+    public List<Bookmark> updateBookmarks(@Argument List<BulkUpdateBookmarkInput> inputs) {
+        return commandService.updateAll(inputs);
+    }
+
+    @MutationMapping
+    public int deleteBookmarks(@Argument List<Long> ids) {
+        return commandService.deleteAll(ids);
+    }
+
+    @MutationMapping
+    public BookmarkView recordVisit(@Argument Long id) {
         return commandService.recordVisit(id);
     }
 
     @MutationMapping
-    public Bookmark toggleFavorite(@Argument Long id) {
+    public boolean trackVisit(@Argument Long id) {
+        return commandService.trackVisit(id);
+    }
+
+    @MutationMapping
+    public BookmarkView toggleFavorite(@Argument Long id) {
         return commandService.toggleFavorite(id);
     }
 
     @MutationMapping
-    public Bookmark setRating(@Argument Long id, @Argument Integer rating) {
+    public BookmarkView setRating(@Argument Long id, @Argument Integer rating) {
         return commandService.setRating(id, rating);
     }
 
@@ -0,0 +1,29 @@
+package com.example.bookmark.resolver;
+
+import com.example.bookmark.repository.BookmarkColumn;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+
+import java.util.Set;
+
+/**
+ * Maps the selection set of a [Bookmark] field to the columns to read
+ */
+final class BookmarkSelections {
+
+    private BookmarkSelections() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Columns of the requested Bookmark fields, or null if entities are needed
+     * (fragments are merged; nested selections of category/user/tags are served by
+     * BookmarkFieldResolver from the ids)
+     */
+    static Set<BookmarkColumn> columns(DataFetchingFieldSelectionSet selectionSet) {
+        return BookmarkColumn.forFields(selectionSet.getImmediateFields().stream()
+                        .map(SelectedField::getName)
+                        .toList())
+                .orElse(null);
+    }
+}
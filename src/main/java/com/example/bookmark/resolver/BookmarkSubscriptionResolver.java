@@ -1,10 +1,13 @@
 package com.example.bookmark.resolver;
 
+import com.example.bookmark.dto.ImportProgress;
 import com.example.bookmark.event.BookmarkEvent;
 import com.example.bookmark.event.BookmarkEventPublisher;
 import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.service.BookmarkImportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
 import reactor.core.publisher.Flux;
@@ -21,6 +24,7 @@ import reactor.core.publisher.Flux;
 public class BookmarkSubscriptionResolver {
 
     private final BookmarkEventPublisher eventPublisher;
+    private final BookmarkImportService importService;
 
     /**
      * Subscribe to all bookmark changes
@@ -65,4 +69,14 @@ public class BookmarkSubscriptionResolver {
                      event.getBookmarkId() :
                      event.getBookmark().getId());
     }
+
+    /**
+     * Subscribe to the progress of a bookmark file import (only the user who started it, or an admin)
+     * Starts with the current state and completes when the import has finished
+     */
+    @SubscriptionMapping
+    public Flux<ImportProgress> importProgress(@Argument String jobId) {
+        log.info("Client subscribed to importProgress of {}", jobId);
+        return importService.progressOf(jobId);
+    }
 }
@@ -1,16 +1,22 @@
 package com.example.bookmark.resolver;
 
+import com.example.bookmark.config.DataLoaderConfig;
 import com.example.bookmark.dto.CreateCategoryInput;
 import com.example.bookmark.dto.UpdateCategoryInput;
-import com.example.bookmark.model.Category;
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.model.BookmarkReference;
 import com.example.bookmark.service.CategoryService;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * GraphQL resolver for category operations.
@@ -23,22 +29,22 @@ public class CategoryResolver {
     private final CategoryService categoryService;
 
     @QueryMapping
-    public List<Category> categories() {
+    public List<CategoryView> categories() {
         return categoryService.findAll();
     }
 
     @QueryMapping
-    public Category category(@Argument Long id) {
+    public CategoryView category(@Argument Long id) {
         return categoryService.findById(id);
     }
 
     @MutationMapping
-    public Category createCategory(@Argument CreateCategoryInput input) {
+    public CategoryView createCategory(@Argument CreateCategoryInput input) {
         return categoryService.create(input.getName(), input.getDescription());
     }
 
     @MutationMapping
-    public Category updateCategory(@Argument Long id, @Argument UpdateCategoryInput input) {
+    public CategoryView updateCategory(@Argument Long id, @Argument UpdateCategoryInput input) {
         return categoryService.update(id, input.getName(), input.getDescription());
     }
 
@@ -46,4 +52,17 @@ public class CategoryResolver {
     public Boolean deleteCategory(@Argument Long id) {
         return categoryService.delete(id);
     }
+
+    /**
+     * Viewable bookmarks of the category (the category itself comes from the dictionary),
+     * batch-loaded for all categories of the response (see DataLoaderConfig)
+     */
+    @SchemaMapping(typeName = "Category", field = "bookmarks")
+    public CompletableFuture<List<BookmarkReference>> bookmarks(CategoryView category,
+                                                                DataFetchingEnvironment env) {
+        DataLoader<DataLoaderConfig.BookmarksKey, List<BookmarkReference>> loader =
+                env.getDataLoader(DataLoaderConfig.CATEGORY_BOOKMARKS_LOADER);
+        return loader.load(new DataLoaderConfig.BookmarksKey(category.getId(),
+                BookmarkSelections.columns(env.getSelectionSet())));
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.bookmark.resolver;
+
+import com.example.bookmark.dto.SystemMetrics;
+import com.example.bookmark.service.SystemMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+
+/**
+ * GraphQL resolver for runtime metrics (admin only)
+ */
+@Controller
+@RequiredArgsConstructor
+public class SystemMetricsResolver {
+
+    private final SystemMetricsService systemMetricsService;
+
+    /**
+     * Cache statistics, thread pool and connection pool usage, subscription counts
+     * @return metrics collected at the time of the query
+     */
+    @QueryMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public SystemMetrics systemMetrics() {
+        return systemMetricsService.collect();
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.bookmark.resolver;
 
+import com.example.bookmark.config.DataLoaderConfig;
 import com.example.bookmark.dto.CreateTagInput;
 import com.example.bookmark.dto.UpdateTagInput;
-import com.example.bookmark.model.Tag;
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.model.BookmarkReference;
 import com.example.bookmark.service.TagService;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * GraphQL resolver for tag operations.
@@ -23,22 +29,22 @@ public class TagResolver {
     private final TagService tagService;
 
     @QueryMapping
-    public List<Tag> tags() {
+    public List<TagView> tags() {
         return tagService.findAll();
     }
 
     @QueryMapping
-    public Tag tag(@Argument Long id) {
+    public TagView tag(@Argument Long id) {
         return tagService.findById(id);
     }
 
     @MutationMapping
-    public Tag createTag(@Argument CreateTagInput input) {
+    public TagView createTag(@Argument CreateTagInput input) {
         return tagService.create(input.getName(), input.getColor());
     }
 
     @MutationMapping
-    public Tag updateTag(@Argument Long id, @Argument UpdateTagInput input) {
+    public TagView updateTag(@Argument Long id, @Argument UpdateTagInput input) {
         return tagService.update(id, input.getName(), input.getColor());
     }
 
@@ -46,4 +52,16 @@ public class TagResolver {
     public Boolean deleteTag(@Argument Long id) {
         return tagService.delete(id);
     }
+
+    /**
+     * Viewable bookmarks of the tag (the tag itself comes from the dictionary),
+     * batch-loaded for all tags of the response (see DataLoaderConfig)
+     */
+    @SchemaMapping(typeName = "Tag", field = "bookmarks")
+    public CompletableFuture<List<BookmarkReference>> bookmarks(TagView tag, DataFetchingEnvironment env) {
+        DataLoader<DataLoaderConfig.BookmarksKey, List<BookmarkReference>> loader =
+                env.getDataLoader(DataLoaderConfig.TAG_BOOKMARKS_LOADER);
+        return loader.load(new DataLoaderConfig.BookmarksKey(tag.getId(),
+                BookmarkSelections.columns(env.getSelectionSet())));
+    }
 }
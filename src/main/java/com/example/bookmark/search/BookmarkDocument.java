@@ -0,0 +1,56 @@
+package com.example.bookmark.search;
+
+import com.example.bookmark.event.domain.AbstractBookmarkPayloadEvent;
+import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.model.Tag;
+
+import java.util.List;
+
+/**
+ * A bookmark as seen by the in-memory indexes: searchable text fields, filter attributes
+ * and ranking signals.
+ *
+ * Built from the entity (full rebuild) or from a domain event payload
+ * (incremental updates), so the index never touches a lazy association
+ * outside of a transaction.
+ */
+public record BookmarkDocument(long id, String title, String description, String siteName,
+                               Long categoryId, List<Long> tagIds, List<String> tagNames,
+                               RankingSignals signals) {
+
+    public static BookmarkDocument from(Bookmark bookmark) {
+        return new BookmarkDocument(
+                bookmark.getId(),
+                bookmark.getTitle(),
+                bookmark.getDescription(),
+                bookmark.getSiteName(),
+                bookmark.getCategory() != null ? bookmark.getCategory().getId() : null,
+                bookmark.getTags().stream().map(Tag::getId).toList(),
+                bookmark.getTags().stream().map(Tag::getName).toList(),
+                new RankingSignals(
+                        bookmark.getUser() != null ? bookmark.getUser().getId() : null,
+                        Boolean.TRUE.equals(bookmark.getIsPublic()),
+                        Boolean.TRUE.equals(bookmark.getIsFavorite()),
+                        bookmark.getRating(),
+                        bookmark.getVisitCount() != null ? bookmark.getVisitCount() : 0,
+                        bookmark.getLastVisitedAt()));
+    }
+
+    public static BookmarkDocument from(AbstractBookmarkPayloadEvent event) {
+        return new BookmarkDocument(
+                event.getBookmarkId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getSiteName(),
+                event.getCategoryId(),
+                event.getTagIds(),
+                event.getTagNames(),
+                new RankingSignals(
+                        event.getUserId(),
+                        Boolean.TRUE.equals(event.getIsPublic()),
+                        Boolean.TRUE.equals(event.getIsFavorite()),
+                        event.getRating(),
+                        event.getVisitCount() != null ? event.getVisitCount() : 0,
+                        event.getLastVisitedAt()));
+    }
+}
@@ -0,0 +1,515 @@
+package com.example.bookmark.search;
+
+import com.example.bookmark.dto.BookmarkFilter;
+import com.example.bookmark.dto.FacetCount;
+import com.example.bookmark.dto.TagExpression;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory bitmap index over the structured bookmark attributes.
+ *
+ * One compressed (Roaring) bitmap of bookmark ids per tag, category, site, owner and rating,
+ * plus bitmaps for favorite and public bookmarks. A filter combination is answered by
+ * intersecting / unioning / subtracting those bitmaps - no table scan and no join on the
+ * tag link table - and the caller only loads the ids of the page it returns.
+ *
+ * Visibility (public OR owned by the viewer) is part of the bitmap expression, so the
+ * cardinality of a result is directly the viewable match count. The same bitmaps give
+ * facet counts for a result set (see {@link #facets}).
+ * Bookmark ids are stored as 32-bit values ({@link #bitmapId}): ids come from a pooled
+ * sequence starting at 1, and the bookmarks table rejects ids above Integer.MAX_VALUE
+ * (CHECK constraint on Bookmark), so every committed id fits.
+ *
+ * Roaring bitmaps are not thread-safe: writers take the write lock, selections the
+ * read lock, and results are always fresh bitmaps owned by the caller.
+ */
+@Component
+@Slf4j
+public class BookmarkFilterIndex {
+
+    private static final int MAX_RATING = 5;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap publicBookmarks = new RoaringBitmap();
+    private final RoaringBitmap favorites = new RoaringBitmap();
+    private final RoaringBitmap[] byRating = new RoaringBitmap[MAX_RATING + 1];
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<String, RoaringBitmap> bySite = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byOwner = new HashMap<>();
+    // Tag filters are given by name
+    private final Map<String, Long> tagIdsByName = new HashMap<>();
+    private final Map<Long, String> tagNamesById = new HashMap<>();
+    // Forward index (bookmark id -> indexed attributes) for updates and deletes
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private volatile boolean ready;
+
+    private record Entry(Long categoryId, String siteName, Long userId, boolean isPublic, boolean favorite,
+                         Integer rating, List<Long> tagIds) {
+    }
+
+    /**
+     * Facet counts of a result set, most frequent first
+     */
+    public record Facets(List<FacetCount> categories, List<FacetCount> tags, List<FacetCount> sites) {
+    }
+
+    public BookmarkFilterIndex() {
+        for (int rating = 0; rating <= MAX_RATING; rating++) {
+            byRating[rating] = new RoaringBitmap();
+        }
+    }
+
+    /**
+     * Replace the whole index (startup)
+     */
+    public void rebuild(Collection<BookmarkDocument> bookmarkDocuments) {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            publicBookmarks.clear();
+            favorites.clear();
+            for (RoaringBitmap ratingBitmap : byRating) {
+                ratingBitmap.clear();
+            }
+            byTag.clear();
+            byCategory.clear();
+            bySite.clear();
+            byOwner.clear();
+            tagIdsByName.clear();
+            tagNamesById.clear();
+            entries.clear();
+
+            bookmarkDocuments.forEach(this::add);
+
+            // Switch dense containers to run-length encoding where it is smaller
+            all.runOptimize();
+            publicBookmarks.runOptimize();
+            favorites.runOptimize();
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+            byCategory.values().forEach(RoaringBitmap::runOptimize);
+            bySite.values().forEach(RoaringBitmap::runOptimize);
+            byOwner.values().forEach(RoaringBitmap::runOptimize);
+            ready = true;
+            log.info("Filter index rebuilt: {} bookmarks, {} tags, {} categories",
+                    entries.size(), byTag.size(), byCategory.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or re-index a single bookmark
+     */
+    public void index(BookmarkDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(document.id());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Update the favorite and rating bitmaps of an indexed bookmark whose other
+     * attributes did not change
+     */
+    public void updateSignals(long bookmarkId, RankingSignals signals) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(bookmarkId);
+            if (entry == null) {
+                return;
+            }
+            int id = bitmapId(bookmarkId);
+            if (signals.favorite()) {
+                favorites.add(id);
+            } else {
+                favorites.remove(id);
+            }
+            if (isIndexedRating(entry.rating())) {
+                byRating[entry.rating()].remove(id);
+            }
+            if (isIndexedRating(signals.rating())) {
+                byRating[signals.rating()].add(id);
+            }
+            entries.put(bookmarkId, new Entry(entry.categoryId(), entry.siteName(), entry.userId(), entry.isPublic(),
+                    signals.favorite(), signals.rating(), entry.tagIds()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a bookmark from the index
+     */
+    public void remove(long bookmarkId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(bookmarkId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tag created, renamed or deleted (bookmark memberships change through {@link #index})
+     */
+    public void tagChanged(long tagId, String name, boolean deleted) {
+        lock.writeLock().lock();
+        try {
+            if (!deleted) {
+                learnTag(tagId, name);
+                return;
+            }
+            String previousName = tagNamesById.remove(tagId);
+            if (previousName != null) {
+                tagIdsByName.remove(previousName, tagId);
+            }
+            byTag.remove(tagId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the bookmarks visible to the viewer that match the structured filter
+     * criteria (category, tags, favorite, public, minimum rating). The free-text
+     * query is not handled here.
+     *
+     * @return a new bitmap owned by the caller
+     */
+    public RoaringBitmap select(BookmarkFilter filter, Long viewerId, boolean admin) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = visibleTo(viewerId, admin);
+
+            if (filter.getCategoryId() != null) {
+                result.and(bitmapOrEmpty(byCategory.get(filter.getCategoryId())));
+            }
+            if (filter.getIsFavorite() != null) {
+                applyFlag(result, favorites, filter.getIsFavorite());
+            }
+            if (filter.getIsPublic() != null) {
+                applyFlag(result, publicBookmarks, filter.getIsPublic());
+            }
+            if (filter.getMinRating() != null) {
+                result.and(ratingAtLeast(filter.getMinRating()));
+            }
+
+            List<String> allOf = new ArrayList<>();
+            if (filter.getTagName() != null) {
+                allOf.add(filter.getTagName());
+            }
+            TagExpression tags = filter.getTags();
+            if (tags != null && tags.getAllOf() != null) {
+                allOf.addAll(tags.getAllOf());
+            }
+            applyAllOf(result, allOf);
+            if (tags != null) {
+                applyAnyOf(result, tags.getAnyOf());
+                applyNoneOf(result, tags.getNoneOf());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the matches per category, tag and site.
+     *
+     * Small result sets are counted in one pass over the matching ids through the forward
+     * index; large ones with one intersection count per facet value (andCardinality never
+     * materializes the intersection), whichever touches less data.
+     *
+     * Values that cannot be named (category or tag deleted meanwhile) are dropped before
+     * the limit is applied, so a facet never comes back short or with a null value.
+     *
+     * @param matches result of {@link #select}
+     * @param limit maximum number of values per facet
+     * @param categoryNames category id -> name (null for unknown categories)
+     */
+    public Facets facets(RoaringBitmap matches, int limit, Function<Long, String> categoryNames) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> categories;
+            Map<Long, Integer> tags;
+            Map<String, Integer> sites;
+            if (matches.getCardinality() < byCategory.size() + byTag.size() + bySite.size()) {
+                categories = new HashMap<>();
+                tags = new HashMap<>();
+                sites = new HashMap<>();
+                IntIterator ids = matches.getIntIterator();
+                while (ids.hasNext()) {
+                    Entry entry = entries.get((long) ids.next());
+                    if (entry == null) {
+                        continue;
+                    }
+                    if (entry.categoryId() != null) {
+                        categories.merge(entry.categoryId(), 1, Integer::sum);
+                    }
+                    if (entry.siteName() != null) {
+                        sites.merge(entry.siteName(), 1, Integer::sum);
+                    }
+                    entry.tagIds().forEach(tagId -> tags.merge(tagId, 1, Integer::sum));
+                }
+            } else {
+                categories = intersectionCounts(matches, byCategory);
+                tags = intersectionCounts(matches, byTag);
+                sites = intersectionCounts(matches, bySite);
+            }
+
+            Map<Long, String> categoryNamesById = new HashMap<>();
+            categories.keySet().forEach(categoryId -> {
+                String name = categoryNames.apply(categoryId);
+                if (name != null) {
+                    categoryNamesById.put(categoryId, name);
+                }
+            });
+            categories.keySet().retainAll(categoryNamesById.keySet());
+            tags.keySet().retainAll(tagNamesById.keySet());
+
+            return new Facets(
+                    mostFrequent(categories, limit).entrySet().stream()
+                            .map(e -> new FacetCount(e.getKey(), categoryNamesById.get(e.getKey()), e.getValue())).toList(),
+                    mostFrequent(tags, limit).entrySet().stream()
+                            .map(e -> new FacetCount(e.getKey(), tagNamesById.get(e.getKey()), e.getValue())).toList(),
+                    mostFrequent(sites, limit).entrySet().stream()
+                            .map(e -> new FacetCount(null, e.getKey(), e.getValue())).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the bookmark exists (in the indexed state)
+     */
+    public boolean contains(long bookmarkId) {
+        lock.readLock().lock();
+        try {
+            return all.contains(bitmapId(bookmarkId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * In-memory visibility check: public, owned by the viewer, or viewer is admin
+     */
+    public boolean isVisibleTo(long bookmarkId, Long viewerId, boolean admin) {
+        lock.readLock().lock();
+        try {
+            int id = bitmapId(bookmarkId);
+            if (admin || publicBookmarks.contains(id)) {
+                return all.contains(id);
+            }
+            RoaringBitmap owned = viewerId != null ? byOwner.get(viewerId) : null;
+            return owned != null && owned.contains(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private RoaringBitmap visibleTo(Long viewerId, boolean admin) {
+        if (admin) {
+            return all.clone();
+        }
+        RoaringBitmap owned = viewerId != null ? byOwner.get(viewerId) : null;
+        return owned != null ? RoaringBitmap.or(publicBookmarks, owned) : publicBookmarks.clone();
+    }
+
+    private static void applyFlag(RoaringBitmap result, RoaringBitmap flagged, boolean expected) {
+        if (expected) {
+            result.and(flagged);
+        } else {
+            result.andNot(flagged);
+        }
+    }
+
+    /**
+     * Same semantics as SQL "rating >= :min": unrated bookmarks never match
+     */
+    private RoaringBitmap ratingAtLeast(int minRating) {
+        List<RoaringBitmap> matching = new ArrayList<>();
+        for (int rating = Math.max(minRating, 0); rating <= MAX_RATING; rating++) {
+            matching.add(byRating[rating]);
+        }
+        return matching.isEmpty() ? new RoaringBitmap() : FastAggregation.or(matching.iterator());
+    }
+
+    /**
+     * Intersect the smallest bitmaps first so the running result shrinks as fast as possible
+     */
+    private void applyAllOf(RoaringBitmap result, List<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+        List<RoaringBitmap> bitmaps = tagNames.stream()
+                .map(this::tagBitmap)
+                .sorted(Comparator.comparingInt(RoaringBitmap::getCardinality))
+                .toList();
+        for (RoaringBitmap bitmap : bitmaps) {
+            result.and(bitmap);
+            if (result.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void applyAnyOf(RoaringBitmap result, List<String> tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return;
+        }
+        result.and(FastAggregation.or(tagNames.stream().map(this::tagBitmap).iterator()));
+    }
+
+    private void applyNoneOf(RoaringBitmap result, List<String> tagNames) {
+        if (tagNames == null) {
+            return;
+        }
+        for (String tagName : tagNames) {
+            result.andNot(tagBitmap(tagName));
+        }
+    }
+
+    /**
+     * Bookmarks having the named tag (empty for unknown or unused tags)
+     */
+    private RoaringBitmap tagBitmap(String tagName) {
+        Long tagId = tagIdsByName.get(tagName);
+        return bitmapOrEmpty(tagId != null ? byTag.get(tagId) : null);
+    }
+
+    private static <K> Map<K, Integer> intersectionCounts(RoaringBitmap matches, Map<K, RoaringBitmap> bitmaps) {
+        Map<K, Integer> counts = new HashMap<>();
+        bitmaps.forEach((key, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(matches, bitmap);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    private static <K extends Comparable<K>> Map<K, Integer> mostFrequent(Map<K, Integer> counts, int limit) {
+        Map<K, Integer> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<K, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    private static RoaringBitmap bitmapOrEmpty(RoaringBitmap bitmap) {
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+    private void add(BookmarkDocument document) {
+        int id = bitmapId(document.id());
+        RankingSignals signals = document.signals();
+        Entry entry = new Entry(document.categoryId(), document.siteName(), signals.userId(), signals.isPublic(),
+                signals.favorite(), signals.rating(), List.copyOf(document.tagIds()));
+        entries.put(document.id(), entry);
+
+        all.add(id);
+        if (entry.isPublic()) {
+            publicBookmarks.add(id);
+        }
+        if (entry.favorite()) {
+            favorites.add(id);
+        }
+        if (isIndexedRating(entry.rating())) {
+            byRating[entry.rating()].add(id);
+        }
+        if (entry.categoryId() != null) {
+            byCategory.computeIfAbsent(entry.categoryId(), key -> new RoaringBitmap()).add(id);
+        }
+        if (entry.siteName() != null) {
+            bySite.computeIfAbsent(entry.siteName(), key -> new RoaringBitmap()).add(id);
+        }
+        if (entry.userId() != null) {
+            byOwner.computeIfAbsent(entry.userId(), key -> new RoaringBitmap()).add(id);
+        }
+        for (int i = 0; i < entry.tagIds().size(); i++) {
+            Long tagId = entry.tagIds().get(i);
+            learnTag(tagId, document.tagNames().get(i));
+            byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private void removeEntry(long bookmarkId) {
+        Entry entry = entries.remove(bookmarkId);
+        if (entry == null) {
+            return;
+        }
+        int id = bitmapId(bookmarkId);
+        all.remove(id);
+        publicBookmarks.remove(id);
+        favorites.remove(id);
+        if (isIndexedRating(entry.rating())) {
+            byRating[entry.rating()].remove(id);
+        }
+        removeFrom(byCategory, entry.categoryId(), id);
+        removeFrom(bySite, entry.siteName(), id);
+        removeFrom(byOwner, entry.userId(), id);
+        entry.tagIds().forEach(tagId -> removeFrom(byTag, tagId, id));
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void learnTag(Long tagId, String name) {
+        String previousName = tagNamesById.put(tagId, name);
+        if (!Objects.equals(previousName, name)) {
+            if (previousName != null) {
+                tagIdsByName.remove(previousName, tagId);
+            }
+            tagIdsByName.put(name, tagId);
+        }
+    }
+
+    private static boolean isIndexedRating(Integer rating) {
+        return rating != null && rating >= 0 && rating <= MAX_RATING;
+    }
+
+    /**
+     * The bitmap value of a bookmark id (ids above Integer.MAX_VALUE are rejected by the
+     * CHECK constraint on the bookmarks table, so this only throws on a broken invariant)
+     */
+    public static int bitmapId(long bookmarkId) {
+        return Math.toIntExact(bookmarkId);
+    }
+}
@@ -0,0 +1,384 @@
+package com.example.bookmark.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over bookmark title, description, site name and tag names.
+ *
+ * term -> {@link PostingList} of bookmark ids, kept in a sorted term dictionary so
+ * that a query term can be matched as a prefix with a single range lookup
+ * ("spr" matches "spring", "스프링" matches "스프링부트를"). A query term matching
+ * neither exactly nor as a prefix falls back to typo-tolerant matching through a
+ * {@link LevenshteinAutomaton} ("sprnig" matches "spring").
+ *
+ * Writers are serialized (bookmark writes are rare compared to searches);
+ * readers never lock - posting lists are immutable and replaced atomically per term.
+ * {@link #search} does not handle visibility (callers apply it in SQL);
+ * {@link #rank} applies it in memory from the indexed owner/public flags.
+ */
+@Component
+@Slf4j
+public class BookmarkSearchIndex {
+
+    // Field weights for the term frequency (BM25F style: a title hit counts 3 times)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int SITE_NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Score factor for dictionary terms that only extend the query term ("spr" -> "spring")
+    private static final double PREFIX_MATCH_FACTOR = 0.7;
+    // Score factor for fuzzy matches, indexed by edit distance
+    private static final double[] FUZZY_MATCH_FACTOR = {1.0, 0.5, 0.3};
+    private static final int MAX_FUZZY_EXPANSIONS = 50;
+
+    private volatile ConcurrentSkipListMap<String, PostingList> dictionary = new ConcurrentSkipListMap<>();
+    // Forward index (bookmark id -> terms, length, signals) for updates, deletes and ranking
+    private volatile Map<Long, DocumentEntry> documents = new ConcurrentHashMap<>();
+    private volatile long totalLength;
+    private volatile boolean ready;
+
+    private record DocumentEntry(String[] terms, int length, RankingSignals signals) {
+    }
+
+    /**
+     * Replace the whole index (startup)
+     */
+    public synchronized void rebuild(Collection<BookmarkDocument> bookmarkDocuments) {
+        ConcurrentSkipListMap<String, PostingList> newDictionary = new ConcurrentSkipListMap<>();
+        Map<Long, DocumentEntry> newDocuments = new ConcurrentHashMap<>();
+        long newTotalLength = 0;
+
+        for (BookmarkDocument document : bookmarkDocuments) {
+            Map<String, Integer> frequencies = analyze(document);
+            DocumentEntry entry = entryOf(frequencies, document.signals());
+            newDocuments.put(document.id(), entry);
+            newTotalLength += entry.length();
+            frequencies.forEach((term, frequency) ->
+                    newDictionary.merge(term, PostingList.EMPTY.with(document.id(), frequency),
+                            (existing, single) -> existing.with(document.id(), frequency)));
+        }
+
+        dictionary = newDictionary;
+        documents = newDocuments;
+        totalLength = newTotalLength;
+        ready = true;
+        log.info("Search index rebuilt: {} documents, {} terms", newDocuments.size(), newDictionary.size());
+    }
+
+    /**
+     * Add or re-index a single bookmark
+     */
+    public synchronized void index(BookmarkDocument document) {
+        long id = document.id();
+        Map<String, Integer> frequencies = analyze(document);
+        DocumentEntry entry = entryOf(frequencies, document.signals());
+        DocumentEntry previous = documents.put(id, entry);
+
+        if (previous != null) {
+            totalLength -= previous.length();
+            for (String term : previous.terms()) {
+                if (!frequencies.containsKey(term)) {
+                    removePosting(term, id);
+                }
+            }
+        }
+        totalLength += entry.length();
+        for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+            PostingList postings = dictionary.get(frequency.getKey());
+            dictionary.put(frequency.getKey(),
+                    (postings != null ? postings : PostingList.EMPTY).with(id, frequency.getValue()));
+        }
+    }
+
+    /**
+     * Replace the ranking signals of an indexed bookmark whose text did not change
+     */
+    public synchronized void updateSignals(long id, RankingSignals signals) {
+        documents.computeIfPresent(id, (key, entry) -> new DocumentEntry(entry.terms(), entry.length(), signals));
+    }
+
+    /**
+     * Add flushed visits to the ranking signals of an indexed bookmark
+     * (read and replaced under the writer lock, so concurrent signal updates are not lost)
+     *
+     * @return the new signals, or null if the bookmark is not indexed
+     */
+    public synchronized RankingSignals addVisits(long id, long visits, LocalDateTime visitedAt) {
+        DocumentEntry entry = documents.get(id);
+        if (entry == null) {
+            return null;
+        }
+        RankingSignals signals = entry.signals().withVisits(visits, visitedAt);
+        documents.put(id, new DocumentEntry(entry.terms(), entry.length(), signals));
+        return signals;
+    }
+
+    /**
+     * Remove a bookmark from the index
+     */
+    public synchronized void remove(long id) {
+        DocumentEntry entry = documents.remove(id);
+        if (entry != null) {
+            totalLength -= entry.length();
+            for (String term : entry.terms()) {
+                removePosting(term, id);
+            }
+        }
+    }
+
+    /**
+     * Find bookmarks containing every query term (each term matched as a prefix,
+     * or with up to two typos if it matches no term at all)
+     *
+     * @return sorted bookmark ids, or null if the query contains no searchable terms
+     */
+    public long[] search(String query) {
+        Set<String> terms = queryTerms(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        NavigableMap<String, PostingList> snapshot = dictionary;
+        return matchAll(snapshot, expandAll(snapshot, terms)).toArray();
+    }
+
+    /**
+     * Rank the bookmarks matching every query term that are visible to the viewer.
+     *
+     * Score = BM25 over the field-weighted term frequencies, multiplied by the
+     * {@link RankingSignals#boost popularity/recency boost}. Only the best {@code limit}
+     * hits are kept in a bounded min-heap, so a large hit set is never fully sorted.
+     *
+     * @param viewerId current user id (null for anonymous)
+     * @param admin whether the current user is an administrator
+     * @return bookmark ids, best first
+     */
+    public List<Long> rank(String query, Long viewerId, boolean admin, int limit) {
+        Set<String> terms = queryTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        NavigableMap<String, PostingList> snapshot = dictionary;
+        Map<Long, DocumentEntry> entries = documents;
+        List<Map<String, Double>> expansions = expandAll(snapshot, terms);
+        PostingList candidates = matchAll(snapshot, expansions);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        int documentCount = Math.max(1, entries.size());
+        double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+        double[] scores = new double[candidates.size()];
+
+        for (Map<String, Double> termExpansions : expansions) {
+            for (Map.Entry<String, Double> match : termExpansions.entrySet()) {
+                PostingList postings = snapshot.get(match.getKey());
+                if (postings == null) {
+                    continue; // removed concurrently
+                }
+                double idf = Math.log(1 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                accumulate(candidates, postings, idf * match.getValue(), averageLength, entries, scores);
+            }
+        }
+
+        // Bounded top-K: min-heap of candidate positions, the weakest hit on top
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<Integer> topK = new PriorityQueue<>(limit + 1,
+                Comparator.<Integer>comparingDouble(i -> scores[i])
+                        .thenComparing(i -> candidates.idAt(i), Comparator.reverseOrder()));
+        for (int i = 0; i < candidates.size(); i++) {
+            DocumentEntry entry = entries.get(candidates.idAt(i));
+            if (entry == null || !entry.signals().isVisibleTo(viewerId, admin)) {
+                continue;
+            }
+            scores[i] *= entry.signals().boost(now);
+            topK.offer(i);
+            if (topK.size() > limit) {
+                topK.poll();
+            }
+        }
+
+        Long[] ranked = new Long[topK.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = candidates.idAt(topK.poll());
+        }
+        return List.of(ranked);
+    }
+
+    /**
+     * @return false until the initial rebuild has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int documentCount() {
+        return documents.size();
+    }
+
+    public int termCount() {
+        return dictionary.size();
+    }
+
+    /**
+     * Add the BM25 contribution of one dictionary term to every candidate it contains
+     * (both lists are sorted by id - linear merge)
+     */
+    private void accumulate(PostingList candidates, PostingList postings, double idf, double averageLength,
+                            Map<Long, DocumentEntry> entries, double[] scores) {
+        int i = 0, j = 0;
+        while (i < candidates.size() && j < postings.size()) {
+            long candidateId = candidates.idAt(i);
+            long postingId = postings.idAt(j);
+            if (candidateId < postingId) {
+                i++;
+            } else if (candidateId > postingId) {
+                j++;
+            } else {
+                DocumentEntry entry = entries.get(candidateId);
+                int length = entry != null ? entry.length() : (int) averageLength;
+                int frequency = postings.frequencyAt(j);
+                scores[i] += idf * (frequency * (K1 + 1))
+                        / (frequency + K1 * (1 - B + B * length / averageLength));
+                i++;
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Dictionary terms matched by each query term, with their score factor:
+     * exact match 1.0, prefix extensions {@value #PREFIX_MATCH_FACTOR}, and only when
+     * neither exists, fuzzy matches weighted by edit distance.
+     */
+    private List<Map<String, Double>> expandAll(NavigableMap<String, PostingList> snapshot, Set<String> terms) {
+        List<Map<String, Double>> expansions = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<String, Double> termExpansions = new LinkedHashMap<>();
+            for (String match : prefixRange(snapshot, term).keySet()) {
+                termExpansions.put(match, match.equals(term) ? 1.0 : PREFIX_MATCH_FACTOR);
+            }
+            if (termExpansions.isEmpty()) {
+                new LevenshteinAutomaton(term, LevenshteinAutomaton.maxEditsFor(term))
+                        .matches(snapshot.navigableKeySet(), MAX_FUZZY_EXPANSIONS)
+                        .forEach((match, distance) -> termExpansions.put(match, FUZZY_MATCH_FACTOR[distance]));
+            }
+            expansions.add(termExpansions);
+        }
+        return expansions;
+    }
+
+    private PostingList matchAll(NavigableMap<String, PostingList> snapshot, List<Map<String, Double>> expansions) {
+        List<PostingList> perTerm = new ArrayList<>(expansions.size());
+        for (Map<String, Double> termExpansions : expansions) {
+            PostingList matches = unionOf(snapshot, termExpansions.keySet());
+            if (matches.isEmpty()) {
+                return PostingList.EMPTY;
+            }
+            perTerm.add(matches);
+        }
+
+        // Intersect smallest first so the running result shrinks as fast as possible
+        perTerm.sort(Comparator.comparingInt(PostingList::size));
+        PostingList result = perTerm.get(0);
+        for (int i = 1; i < perTerm.size() && !result.isEmpty(); i++) {
+            result = result.intersect(perTerm.get(i));
+        }
+        return result;
+    }
+
+    private PostingList unionOf(NavigableMap<String, PostingList> snapshot, Collection<String> terms) {
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            PostingList postings = snapshot.get(term);
+            if (postings != null) {
+                lists.add(postings);
+            }
+        }
+        if (lists.size() <= 1) {
+            return lists.isEmpty() ? PostingList.EMPTY : lists.get(0);
+        }
+
+        // Many terms (prefix or fuzzy expansions): concatenate once and sort, instead of k pairwise merges
+        int total = 0;
+        for (PostingList postings : lists) {
+            total += postings.size();
+        }
+        long[] buffer = new long[total];
+        int length = 0;
+        for (PostingList postings : lists) {
+            length = postings.copyInto(buffer, length);
+        }
+        return PostingList.of(buffer, length);
+    }
+
+    private static NavigableMap<String, PostingList> prefixRange(NavigableMap<String, PostingList> snapshot,
+                                                                 String prefix) {
+        return snapshot.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static Set<String> queryTerms(String query) {
+        return new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+    }
+
+    /**
+     * Remove the bookmark from the term's posting list (writers are serialized,
+     * so the read and the replacement need no compute)
+     */
+    private void removePosting(String term, long id) {
+        PostingList postings = dictionary.get(term);
+        if (postings == null) {
+            return;
+        }
+        PostingList remaining = postings.without(id);
+        if (remaining.isEmpty()) {
+            dictionary.remove(term);
+        } else {
+            dictionary.put(term, remaining);
+        }
+    }
+
+    private static DocumentEntry entryOf(Map<String, Integer> frequencies, RankingSignals signals) {
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        return new DocumentEntry(frequencies.keySet().toArray(String[]::new), length, signals);
+    }
+
+    /**
+     * Term -> field-weighted frequency
+     */
+    private static Map<String, Integer> analyze(BookmarkDocument document) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        addTerms(frequencies, document.title(), TITLE_WEIGHT);
+        addTerms(frequencies, document.description(), DESCRIPTION_WEIGHT);
+        addTerms(frequencies, document.siteName(), SITE_NAME_WEIGHT);
+        if (document.tagNames() != null) {
+            document.tagNames().forEach(tagName -> addTerms(frequencies, tagName, TAG_WEIGHT));
+        }
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : TextAnalyzer.tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+}
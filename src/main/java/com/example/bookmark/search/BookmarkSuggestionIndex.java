@@ -0,0 +1,232 @@
+package com.example.bookmark.search;
+
+import com.example.bookmark.dto.Suggestion;
+import com.example.bookmark.dto.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix autocomplete over bookmark titles and tag names, pre-ranked by popularity.
+ *
+ * Backed by a {@link SuggestionTrie}: a lookup is a walk down the typed prefix plus a copy
+ * of the cached top list, independent of how many keys share the prefix.
+ * <ul>
+ *   <li>titles: only public bookmarks are suggested (suggestions are the same for every
+ *       viewer, and a private title must never leak through autocomplete). Bookmarks with
+ *       the same normalized title are merged into one suggestion with the summed popularity</li>
+ *   <li>tags: every tag, scored 1 + number of bookmarks using it</li>
+ * </ul>
+ * Updated incrementally from the same documents as {@link BookmarkSearchIndex};
+ * writers are serialized, readers only take the trie's read lock.
+ */
+@Component
+@Slf4j
+public class BookmarkSuggestionIndex {
+
+    private static final int CACHED_SUGGESTIONS = 10;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private volatile SuggestionTrie trie = new SuggestionTrie(CACHED_SUGGESTIONS);
+    private volatile boolean ready;
+
+    // Writer-side bookkeeping (guarded by this)
+    private final Map<Long, TitleEntry> titleByBookmark = new HashMap<>();
+    private final Map<String, TitleEntry> titles = new HashMap<>();
+    private final Map<Long, Set<Long>> tagsByBookmark = new HashMap<>();
+    private final Map<Long, TagEntry> tags = new HashMap<>();
+
+    private record TitleEntry(String key, String text, double score) {
+    }
+
+    private record TagEntry(String name, int usage) {
+    }
+
+    /**
+     * Replace the whole index (startup)
+     *
+     * @param tagNames every tag (id -> name), including unused ones
+     */
+    public synchronized void rebuild(Collection<BookmarkDocument> bookmarkDocuments, Map<Long, String> tagNames) {
+        titleByBookmark.clear();
+        titles.clear();
+        tagsByBookmark.clear();
+        tags.clear();
+        tagNames.forEach((id, name) -> tags.put(id, new TagEntry(name, 0)));
+
+        for (BookmarkDocument document : bookmarkDocuments) {
+            TitleEntry title = titleOf(document);
+            if (title != null) {
+                titleByBookmark.put(document.id(), title);
+                titles.merge(title.key(), title,
+                        (existing, added) -> new TitleEntry(existing.key(), existing.text(), existing.score() + added.score()));
+            }
+            Set<Long> tagIds = new HashSet<>(document.tagIds());
+            tagsByBookmark.put(document.id(), tagIds);
+            for (Long tagId : tagIds) {
+                tags.computeIfPresent(tagId, (id, tag) -> new TagEntry(tag.name(), tag.usage() + 1));
+            }
+        }
+
+        SuggestionTrie newTrie = new SuggestionTrie(CACHED_SUGGESTIONS);
+        titles.values().forEach(title ->
+                newTrie.put(title.key(), new Suggestion(title.text(), SuggestionType.TITLE, title.score())));
+        tags.values().forEach(tag -> putTag(newTrie, tag));
+        trie = newTrie;
+        ready = true;
+        log.info("Suggestion index rebuilt: {} titles, {} tags", titles.size(), tags.size());
+    }
+
+    /**
+     * Add or re-index a single bookmark
+     */
+    public synchronized void index(BookmarkDocument document) {
+        TitleEntry title = titleOf(document);
+        TitleEntry previousTitle = title != null
+                ? titleByBookmark.put(document.id(), title)
+                : titleByBookmark.remove(document.id());
+        if (previousTitle != null) {
+            adjustTitle(previousTitle.key(), previousTitle.text(), -previousTitle.score());
+        }
+        if (title != null) {
+            adjustTitle(title.key(), title.text(), title.score());
+        }
+
+        // Tags created after startup are learned from the document itself
+        List<Long> tagIds = document.tagIds();
+        for (int i = 0; i < tagIds.size(); i++) {
+            tags.putIfAbsent(tagIds.get(i), new TagEntry(document.tagNames().get(i), 0));
+        }
+        Set<Long> current = new HashSet<>(tagIds);
+        Set<Long> previous = tagsByBookmark.put(document.id(), current);
+        for (Long tagId : current) {
+            if (previous == null || !previous.contains(tagId)) {
+                adjustTagUsage(tagId, 1);
+            }
+        }
+        if (previous != null) {
+            for (Long tagId : previous) {
+                if (!current.contains(tagId)) {
+                    adjustTagUsage(tagId, -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-score the title of a bookmark whose title and visibility did not change
+     */
+    public synchronized void updateSignals(long bookmarkId, RankingSignals signals) {
+        TitleEntry title = titleByBookmark.get(bookmarkId);
+        if (title == null) {
+            return; // private or untitled, never suggested
+        }
+        double score = signals.popularity();
+        titleByBookmark.put(bookmarkId, new TitleEntry(title.key(), title.text(), score));
+        adjustTitle(title.key(), title.text(), score - title.score());
+    }
+
+    /**
+     * Remove a bookmark from the index
+     */
+    public synchronized void remove(long bookmarkId) {
+        TitleEntry title = titleByBookmark.remove(bookmarkId);
+        if (title != null) {
+            adjustTitle(title.key(), title.text(), -title.score());
+        }
+        Set<Long> tagIds = tagsByBookmark.remove(bookmarkId);
+        if (tagIds != null) {
+            tagIds.forEach(tagId -> adjustTagUsage(tagId, -1));
+        }
+    }
+
+    /**
+     * Tag created, renamed or deleted. Usage changes of the affected bookmarks
+     * arrive separately through {@link #index}.
+     */
+    public synchronized void tagChanged(long tagId, String name, boolean deleted) {
+        TagEntry existing = tags.get(tagId);
+        if (deleted) {
+            if (existing != null) {
+                tags.remove(tagId);
+                trie.remove(normalize(existing.name()), SuggestionType.TAG);
+            }
+            return;
+        }
+        if (existing != null && existing.name().equals(name)) {
+            return;
+        }
+        if (existing != null) {
+            trie.remove(normalize(existing.name()), SuggestionType.TAG);
+        }
+        TagEntry renamed = new TagEntry(name, existing != null ? existing.usage() : 0);
+        tags.put(tagId, renamed);
+        putTag(trie, renamed);
+    }
+
+    /**
+     * Best titles and tag names starting with the prefix (case and whitespace insensitive)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return trie.top(normalize(prefix), limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void adjustTitle(String key, String text, double delta) {
+        TitleEntry existing = titles.get(key);
+        double score = (existing != null ? existing.score() : 0) + delta;
+        if (score <= 1e-9) {
+            titles.remove(key);
+            trie.remove(key, SuggestionType.TITLE);
+            return;
+        }
+        // Keep the first spelling seen for titles shared by several bookmarks
+        TitleEntry updated = new TitleEntry(key, existing != null ? existing.text() : text, score);
+        titles.put(key, updated);
+        trie.put(key, new Suggestion(updated.text(), SuggestionType.TITLE, score));
+    }
+
+    private void adjustTagUsage(long tagId, int delta) {
+        TagEntry tag = tags.get(tagId);
+        if (tag == null) {
+            return; // deleted meanwhile
+        }
+        TagEntry updated = new TagEntry(tag.name(), Math.max(0, tag.usage() + delta));
+        tags.put(tagId, updated);
+        putTag(trie, updated);
+    }
+
+    private static void putTag(SuggestionTrie target, TagEntry tag) {
+        String key = normalize(tag.name());
+        if (!key.isEmpty()) {
+            target.put(key, new Suggestion(tag.name(), SuggestionType.TAG, 1 + tag.usage()));
+        }
+    }
+
+    private static TitleEntry titleOf(BookmarkDocument document) {
+        if (!document.signals().isPublic() || document.title() == null) {
+            return null;
+        }
+        String key = normalize(document.title());
+        if (key.isEmpty()) {
+            return null;
+        }
+        String text = WHITESPACE.matcher(document.title().strip()).replaceAll(" ");
+        return new TitleEntry(key, text, document.signals().popularity());
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.bookmark.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+
+/**
+ * Levenshtein automaton (with adjacent transpositions) intersected with the sorted term dictionary.
+ *
+ * The automaton state after reading a prefix is its row of edit distances against the
+ * query term. The sorted terms are walked depth-first as an implicit trie: the terms
+ * sharing a prefix form a contiguous range (a sub-set view of the sorted dictionary),
+ * and the children of a prefix are found by seeking to prefix + character inside that range.
+ * <ul>
+ *   <li>a prefix whose row minimum exceeds the maximum distance is dead - none of its
+ *       extensions can match, so its whole range is skipped</li>
+ *   <li>a prefix whose row minimum equals the maximum distance can only be extended by the
+ *       few query characters that match a cell still within budget (any other character
+ *       costs one more edit on every path), so only those children are sought</li>
+ * </ul>
+ * Only the neighborhood of the query is visited, never the full dictionary.
+ *
+ * Like Lucene's FuzzyQuery prefixLength, the first character must match exactly:
+ * typos in the first letter are rare, and fixing it shrinks the visited neighborhood
+ * by roughly the alphabet size.
+ */
+public final class LevenshteinAutomaton {
+
+    private static final int PREFIX_LENGTH = 1;
+
+    private final String term;
+    private final int maxEdits;
+
+    public LevenshteinAutomaton(String term, int maxEdits) {
+        this.term = term;
+        this.maxEdits = maxEdits;
+    }
+
+    /**
+     * Edit distance allowed for a query term: none for very short terms
+     * (too many accidental matches), 1 up to five characters, 2 above.
+     */
+    public static int maxEditsFor(String term) {
+        int length = term.codePointCount(0, term.length());
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Find dictionary terms within the maximum edit distance
+     *
+     * @param sortedTerms all dictionary terms in natural (String) order, e.g. the key set of the
+     *                    dictionary itself (walked through range views, never copied)
+     * @param maxExpansions upper bound on returned terms (closest first)
+     * @return matching term -> edit distance, closest first
+     */
+    public Map<String, Integer> matches(NavigableSet<String> sortedTerms, int maxExpansions) {
+        if (maxEdits <= 0 || term.length() <= PREFIX_LENGTH) {
+            return Map.of();
+        }
+
+        // rows[d] = automaton state after d characters; deeper than term + maxEdits is always dead
+        int[][] rows = new int[term.length() + maxEdits + 2][term.length() + 1];
+        for (int j = 0; j <= term.length(); j++) {
+            rows[0][j] = j;
+        }
+
+        // Consume the exact prefix, then walk its range
+        for (int depth = 0; depth < PREFIX_LENGTH; depth++) {
+            computeRow(rows, term, depth);
+        }
+        String prefix = term.substring(0, PREFIX_LENGTH);
+        List<Map.Entry<String, Integer>> found = new ArrayList<>();
+        walk(startingWith(sortedTerms, prefix), prefix, rows, found);
+
+        found.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < found.size() && i < maxExpansions; i++) {
+            result.put(found.get(i).getKey(), found.get(i).getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Visit the terms of the range, which all start with the prefix
+     *
+     * @param rows automaton states, valid up to the prefix length
+     */
+    private void walk(NavigableSet<String> range, String prefix, int[][] rows,
+                      List<Map.Entry<String, Integer>> found) {
+        int length = prefix.length();
+        int[] row = rows[length];
+        int rowMin = min(row);
+        String first = range.ceiling(prefix);
+        if (rowMin > maxEdits || first == null) {
+            return;
+        }
+
+        // The prefix itself sorts first in its range
+        NavigableSet<String> children = range;
+        if (first.length() == length) {
+            if (row[term.length()] <= maxEdits) {
+                found.add(Map.entry(first, row[term.length()]));
+            }
+            children = range.tailSet(prefix, false);
+        }
+
+        if (rowMin == maxEdits) {
+            // At the edge of the budget: only a few characters can keep the distance
+            for (char c : viableCharacters(rows, prefix, length)) {
+                descend(children, prefix + c, rows, found);
+            }
+            return;
+        }
+
+        // Every child may still match: enumerate the existing ones, one seek per child
+        String next = children.ceiling(prefix);
+        while (next != null) {
+            char c = next.charAt(length);
+            descend(children, prefix + c, rows, found);
+            next = c == Character.MAX_VALUE ? null : children.ceiling(prefix + (char) (c + 1));
+        }
+    }
+
+    private void descend(NavigableSet<String> children, String childPrefix, int[][] rows,
+                         List<Map.Entry<String, Integer>> found) {
+        int length = childPrefix.length() - 1;
+        if (length + 1 >= rows.length) {
+            return; // too long to come back within maxEdits
+        }
+        computeRow(rows, childPrefix, length);
+        walk(startingWith(children, childPrefix), childPrefix, rows, found);
+    }
+
+    /**
+     * The terms of the range starting with the prefix (a view, no copy)
+     */
+    private static NavigableSet<String> startingWith(NavigableSet<String> terms, String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        if (last == Character.MAX_VALUE) {
+            // Last child of the enclosing range
+            return terms.tailSet(prefix, true);
+        }
+        String successor = prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+        return terms.subSet(prefix, true, successor, false);
+    }
+
+    /**
+     * Characters that keep some cell within budget when the row minimum equals maxEdits:
+     * a query character matched diagonally from a cell at maxEdits, or the second half of
+     * an adjacent transposition. Sorted and distinct, so the range only moves forward.
+     */
+    private char[] viableCharacters(int[][] rows, String prefix, int length) {
+        int[] row = rows[length];
+        int[] previousRow = length > 0 ? rows[length - 1] : null;
+        char last = length > 0 ? prefix.charAt(length - 1) : 0;
+
+        StringBuilder chars = new StringBuilder();
+        for (int j = 1; j <= term.length(); j++) {
+            if (row[j - 1] <= maxEdits) {
+                chars.append(term.charAt(j - 1));
+            }
+            if (previousRow != null && j > 1 && term.charAt(j - 1) == last && previousRow[j - 2] < maxEdits) {
+                chars.append(term.charAt(j - 2));
+            }
+        }
+        char[] result = chars.toString().toCharArray();
+        Arrays.sort(result);
+        int unique = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[unique++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, unique);
+    }
+
+    /**
+     * Automaton transition: rows[depth + 1] from rows[depth] after reading candidate.charAt(depth)
+     */
+    private void computeRow(int[][] rows, String candidate, int depth) {
+        int[] previous = rows[depth];
+        int[] beforePrevious = depth > 0 ? rows[depth - 1] : null;
+        char c = candidate.charAt(depth);
+
+        int[] row = rows[depth + 1];
+        row[0] = depth + 1;
+        for (int j = 1; j < row.length; j++) {
+            int cost = term.charAt(j - 1) == c ? 0 : 1;
+            int value = Math.min(Math.min(row[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            // Adjacent transposition ("sprnig" -> "spring") counts as one edit
+            if (beforePrevious != null && j > 1
+                    && term.charAt(j - 1) == candidate.charAt(depth - 1)
+                    && term.charAt(j - 2) == c) {
+                value = Math.min(value, beforePrevious[j - 2] + 1);
+            }
+            row[j] = value;
+        }
+    }
+
+    private static int min(int[] row) {
+        int min = Integer.MAX_VALUE;
+        for (int value : row) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.bookmark.search;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, sorted list of bookmark ids with their (field-weighted) term
+ * frequencies, stored as parallel primitive arrays.
+ *
+ * Updates return a new instance (copy-on-write), so readers can use a list
+ * without locking while the index is being modified.
+ */
+public final class PostingList {
+
+    public static final PostingList EMPTY = new PostingList(new long[0], new int[0]);
+
+    private final long[] ids;
+    private final int[] frequencies;
+
+    private PostingList(long[] ids, int[] frequencies) {
+        this.ids = ids;
+        this.frequencies = frequencies;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    public int frequencyAt(int index) {
+        return frequencies[index];
+    }
+
+    /**
+     * @return a copy of the sorted ids
+     */
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    /**
+     * Copy ids into the buffer starting at offset (truncated if the buffer is full)
+     *
+     * @return the offset after the last copied id
+     */
+    int copyInto(long[] buffer, int offset) {
+        int count = Math.min(ids.length, buffer.length - offset);
+        System.arraycopy(ids, 0, buffer, offset, count);
+        return offset + count;
+    }
+
+    /**
+     * Add the id, or replace its frequency if already present
+     */
+    public PostingList with(long id, int frequency) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            if (frequencies[pos] == frequency) {
+                return this;
+            }
+            int[] newFrequencies = frequencies.clone();
+            newFrequencies[pos] = frequency;
+            return new PostingList(ids, newFrequencies);
+        }
+        int insertAt = -pos - 1;
+        long[] newIds = new long[ids.length + 1];
+        int[] newFrequencies = new int[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, insertAt);
+        System.arraycopy(frequencies, 0, newFrequencies, 0, insertAt);
+        newIds[insertAt] = id;
+        newFrequencies[insertAt] = frequency;
+        System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(frequencies, insertAt, newFrequencies, insertAt + 1, ids.length - insertAt);
+        return new PostingList(newIds, newFrequencies);
+    }
+
+    public PostingList without(long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] newIds = new long[ids.length - 1];
+        int[] newFrequencies = new int[ids.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, pos);
+        System.arraycopy(frequencies, 0, newFrequencies, 0, pos);
+        System.arraycopy(ids, pos + 1, newIds, pos, ids.length - pos - 1);
+        System.arraycopy(frequencies, pos + 1, newFrequencies, pos, ids.length - pos - 1);
+        return new PostingList(newIds, newFrequencies);
+    }
+
+    /**
+     * Build an id-only list (frequency 1) from ids in any order (duplicates are removed).
+     * Used for intermediate match sets, not stored in the dictionary.
+     */
+    public static PostingList of(long[] ids, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = Arrays.copyOf(ids, length);
+        Arrays.sort(sorted);
+        int unique = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        long[] result = unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+        int[] frequencies = new int[result.length];
+        Arrays.fill(frequencies, 1);
+        return new PostingList(result, frequencies);
+    }
+
+    /**
+     * Linear merge intersection of two sorted lists (frequencies of this list are kept)
+     */
+    public PostingList intersect(PostingList other) {
+        long[] a = ids;
+        long[] b = other.ids;
+        long[] resultIds = new long[Math.min(a.length, b.length)];
+        int[] resultFrequencies = new int[resultIds.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                resultIds[n] = a[i];
+                resultFrequencies[n++] = frequencies[i];
+                i++;
+                j++;
+            }
+        }
+        return n == 0 ? EMPTY : new PostingList(Arrays.copyOf(resultIds, n), Arrays.copyOf(resultFrequencies, n));
+    }
+}
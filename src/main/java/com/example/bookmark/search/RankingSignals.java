@@ -0,0 +1,83 @@
+package com.example.bookmark.search;
+
+import com.example.bookmark.event.domain.BookmarkSignalsChangedEvent;
+import com.example.bookmark.event.domain.BookmarkState;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Non-text attributes of an indexed bookmark used for ranking and for
+ * applying the visibility rule in memory (same rule as BookmarkSpecifications.viewableBy).
+ */
+public record RankingSignals(Long userId, boolean isPublic, boolean favorite, Integer rating,
+                             int visitCount, LocalDateTime lastVisitedAt) {
+
+    // Boost weights - text relevance (BM25) stays the dominant factor
+    private static final double VISIT_WEIGHT = 0.1;      // per ln(1 + visits)
+    private static final double RATING_WEIGHT = 0.05;    // per star
+    private static final double FAVORITE_BOOST = 1.2;
+    private static final double RECENCY_WEIGHT = 0.3;    // fully applied for a visit right now
+    private static final double RECENCY_HALF_LIFE_DAYS = 14;
+
+    public static RankingSignals from(BookmarkSignalsChangedEvent event) {
+        return new RankingSignals(
+                event.getUserId(),
+                Boolean.TRUE.equals(event.getIsPublic()),
+                Boolean.TRUE.equals(event.getIsFavorite()),
+                event.getRating(),
+                event.getVisitCount() != null ? event.getVisitCount() : 0,
+                event.getLastVisitedAt());
+    }
+
+    public static RankingSignals from(Long userId, BookmarkState state) {
+        return new RankingSignals(
+                userId,
+                Boolean.TRUE.equals(state.isPublic()),
+                Boolean.TRUE.equals(state.isFavorite()),
+                state.rating(),
+                state.visitCount() != null ? state.visitCount() : 0,
+                state.lastVisitedAt());
+    }
+
+    /**
+     * The signals after visits flushed from the write-behind buffer
+     * (visit count saturates at Integer.MAX_VALUE, the later visit time wins)
+     */
+    public RankingSignals withVisits(long visits, LocalDateTime visitedAt) {
+        int newVisitCount = (int) Math.min(Integer.MAX_VALUE, (long) visitCount + visits);
+        LocalDateTime newLastVisitedAt = lastVisitedAt == null || (visitedAt != null && visitedAt.isAfter(lastVisitedAt))
+                ? visitedAt
+                : lastVisitedAt;
+        return new RankingSignals(userId, isPublic, favorite, rating, newVisitCount, newLastVisitedAt);
+    }
+
+    /**
+     * Time-independent popularity (used for pre-ranked suggestions, which are cached)
+     */
+    public double popularity() {
+        return 1 + Math.log1p(visitCount) + (favorite ? 1 : 0) + (rating != null ? rating / 5.0 : 0);
+    }
+
+    public boolean isVisibleTo(Long viewerId, boolean admin) {
+        return admin || isPublic || (viewerId != null && viewerId.equals(userId));
+    }
+
+    /**
+     * Multiplicative boost applied on top of the BM25 text score (always >= 1)
+     */
+    public double boost(LocalDateTime now) {
+        double boost = 1 + VISIT_WEIGHT * Math.log1p(visitCount);
+        if (rating != null) {
+            boost *= 1 + RATING_WEIGHT * rating;
+        }
+        if (favorite) {
+            boost *= FAVORITE_BOOST;
+        }
+        if (lastVisitedAt != null) {
+            double ageDays = Math.max(0, Duration.between(lastVisitedAt, now).toHours() / 24.0);
+            boost *= 1 + RECENCY_WEIGHT * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+        }
+        return boost;
+    }
+}
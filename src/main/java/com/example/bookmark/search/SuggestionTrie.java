@@ -0,0 +1,272 @@
+package com.example.bookmark.search;
+
+import com.example.bookmark.dto.Suggestion;
+import com.example.bookmark.dto.SuggestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact prefix tree (radix trie) of suggestions with a pre-ranked top-K cache per node.
+ *
+ * - Edges carry whole label strings, so single-child chains collapse into one node
+ * - Children are kept in sorted char/array pairs instead of maps
+ * - Every node caches the best {@code cacheSize} suggestions of its subtree, so a lookup
+ *   costs one walk down the prefix and never visits the subtree
+ *
+ * After a change, only the caches on the path from the root to the changed key are
+ * recomputed (each from its own entries and its children's caches).
+ * One key can hold one entry per {@link SuggestionType} (a title and a tag may share text).
+ */
+public final class SuggestionTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+    private static final Comparator<Suggestion> BEST_FIRST = Comparator
+            .comparingDouble(Suggestion::getScore).reversed()
+            .thenComparing(Suggestion::getText);
+
+    private final int cacheSize;
+    private final Node root = new Node("");
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    private static final class Node {
+        String label;
+        char[] childKeys = NO_KEYS;           // first character of each child label, sorted
+        Node[] children = NO_CHILDREN;
+        Suggestion[] entries;                 // by SuggestionType ordinal, null if no key ends here
+        Suggestion[] top = NO_SUGGESTIONS;    // best entries of the subtree, best first
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(childKeys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        void putChild(Node child) {
+            char c = child.label.charAt(0);
+            int pos = Arrays.binarySearch(childKeys, c);
+            if (pos >= 0) {
+                children[pos] = child;
+                return;
+            }
+            int insertAt = -pos - 1;
+            char[] newKeys = new char[childKeys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(childKeys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            System.arraycopy(childKeys, insertAt, newKeys, insertAt + 1, childKeys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            childKeys = newKeys;
+            children = newChildren;
+        }
+
+        void removeChild(char c) {
+            int pos = Arrays.binarySearch(childKeys, c);
+            if (pos < 0) {
+                return;
+            }
+            char[] newKeys = new char[childKeys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(childKeys, 0, newKeys, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            System.arraycopy(childKeys, pos + 1, newKeys, pos, childKeys.length - pos - 1);
+            System.arraycopy(children, pos + 1, newChildren, pos, children.length - pos - 1);
+            childKeys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+    }
+
+    public SuggestionTrie(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Add or replace the entry of the suggestion's type under the (normalized, non-empty) key
+     */
+    public void put(String key, Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            int pos = 0;
+            path.add(node);
+            while (pos < key.length()) {
+                Node child = node.child(key.charAt(pos));
+                if (child == null) {
+                    child = new Node(key.substring(pos));
+                    node.putChild(child);
+                    pos = key.length();
+                } else {
+                    int common = commonPrefixLength(child.label, key, pos);
+                    if (common < child.label.length()) {
+                        // Split the edge: node -> middle -> child
+                        Node middle = new Node(child.label.substring(0, common));
+                        child.label = child.label.substring(common);
+                        middle.putChild(child);
+                        node.putChild(middle);
+                        child = middle;
+                    }
+                    pos += common;
+                }
+                node = child;
+                path.add(node);
+            }
+
+            if (node.entries == null) {
+                node.entries = new Suggestion[SuggestionType.values().length];
+            }
+            if (node.entries[suggestion.getType().ordinal()] == null) {
+                size++;
+            }
+            node.entries[suggestion.getType().ordinal()] = suggestion;
+            refreshTop(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the entry of the given type under the key (no-op if absent)
+     */
+    public void remove(String key, SuggestionType type) {
+        lock.writeLock().lock();
+        try {
+            List<Node> path = findPath(key);
+            if (path == null) {
+                return;
+            }
+            Node node = path.get(path.size() - 1);
+            if (node.entries == null || node.entries[type.ordinal()] == null) {
+                return;
+            }
+            node.entries[type.ordinal()] = null;
+            size--;
+            if (Arrays.stream(node.entries).allMatch(entry -> entry == null)) {
+                node.entries = null;
+            }
+            compact(path);
+            refreshTop(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best suggestions whose key starts with the (normalized) prefix
+     */
+    public List<Suggestion> top(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int pos = 0;
+            while (pos < prefix.length()) {
+                Node child = node.child(prefix.charAt(pos));
+                if (child == null) {
+                    return List.of();
+                }
+                int length = Math.min(child.label.length(), prefix.length() - pos);
+                if (!child.label.regionMatches(0, prefix, pos, length)) {
+                    return List.of();
+                }
+                pos += length;
+                node = child;
+            }
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nodes from the root to the node of the exact key, or null if the key is not in the trie
+     */
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int pos = 0;
+        path.add(node);
+        while (pos < key.length()) {
+            Node child = node.child(key.charAt(pos));
+            if (child == null || !key.startsWith(child.label, pos)) {
+                return null;
+            }
+            pos += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Drop an emptied leaf and merge a remaining single-child node into its child,
+     * so the trie stays compact after removals
+     */
+    private void compact(List<Node> path) {
+        int last = path.size() - 1;
+        Node node = path.get(last);
+        if (last > 0 && node.entries == null && node.children.length == 0) {
+            path.get(last - 1).removeChild(node.label.charAt(0));
+            path.remove(last);
+            last--;
+            node = path.get(last);
+        }
+        if (last > 0 && node.entries == null && node.children.length == 1) {
+            Node child = node.children[0];
+            node.label = node.label + child.label;
+            node.childKeys = child.childKeys;
+            node.children = child.children;
+            node.entries = child.entries;
+            node.top = child.top;
+        }
+    }
+
+    private void refreshTop(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            List<Suggestion> candidates = new ArrayList<>();
+            if (node.entries != null) {
+                for (Suggestion entry : node.entries) {
+                    if (entry != null) {
+                        candidates.add(entry);
+                    }
+                }
+            }
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BEST_FIRST);
+            node.top = candidates.isEmpty()
+                    ? NO_SUGGESTIONS
+                    : candidates.subList(0, Math.min(cacheSize, candidates.size())).toArray(Suggestion[]::new);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.bookmark.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Minimal text analyzer for the bookmark search index.
+ *
+ * Lower-cases the text and splits it on every character that is not a
+ * letter or digit. Works for Hangul as well as Latin text (no stemming,
+ * partial words are handled by prefix matching in the index).
+ */
+public final class TextAnalyzer {
+
+    private TextAnalyzer() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Split text into normalized terms (duplicates are kept, order is preserved)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(normalized.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            terms.add(normalized.substring(start));
+        }
+        return terms;
+    }
+}
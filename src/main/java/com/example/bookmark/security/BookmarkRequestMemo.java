@@ -0,0 +1,141 @@
+package com.example.bookmark.security;
+
+import com.example.bookmark.exception.ResourceNotFoundException;
+import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.repository.BookmarkRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-request memo of loaded bookmarks and ownership decisions, shared by
+ * BookmarkSecurityService and the command/query services.
+ *
+ * Without it, {@code @PreAuthorize isOwner} reads the bookmark, the service method reads
+ * it again, and every further mutation in the same GraphQL document repeats both reads.
+ * With it, each bookmark row is read at most once per HTTP request for reading, and at most
+ * once per transaction for writing:
+ * <ul>
+ *   <li>{@link #find} returns the instance read earlier in the request (absent ids included)</li>
+ *   <li>{@link #findForUpdate} reuses that instance only if it belongs to the current
+ *       transaction; otherwise the row is read again, because an instance from an earlier
+ *       transaction may miss in-place updates (favorite, rating, visits) committed since,
+ *       and saving it would revert them. It forgets the instance if the transaction rolls back</li>
+ *   <li>ownership is decided once per bookmark (the owner never changes and the request has
+ *       a single authenticated user)</li>
+ * </ul>
+ * The memo lives in the request attributes; outside of a request (scheduled jobs,
+ * event listeners, subscriptions) every call goes straight to the repository.
+ * Writers that bypass the entity (bulk updates, deletes) must {@link #evict} the id.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkRequestMemo {
+
+    private static final String STATE_ATTRIBUTE = BookmarkRequestMemo.class.getName() + ".state";
+
+    private final BookmarkRepository bookmarkRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final class State {
+        final Map<Long, Optional<Bookmark>> bookmarks = new ConcurrentHashMap<>();
+        final Map<Long, Boolean> ownership = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The bookmark, read at most once per request
+     */
+    public Optional<Bookmark> find(Long id) {
+        State state = state();
+        if (state == null) {
+            return bookmarkRepository.findById(id);
+        }
+        return state.bookmarks.computeIfAbsent(id, bookmarkRepository::findById);
+    }
+
+    /**
+     * The bookmark as a managed entity of the current transaction, ready to be modified
+     * @throws ResourceNotFoundException if bookmark not found
+     */
+    public Bookmark findForUpdate(Long id) {
+        Bookmark bookmark = find(id).orElseThrow(() -> ResourceNotFoundException.bookmark(id));
+        if (!entityManager.contains(bookmark)) {
+            // Read by an earlier transaction of this request: read the current row in this one
+            // (no SELECT if this transaction already holds its own copy)
+            bookmark = entityManager.find(Bookmark.class, id);
+            if (bookmark == null) {
+                evict(id);
+                throw ResourceNotFoundException.bookmark(id);
+            }
+            remember(bookmark);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled back change must not survive in the memoized instance
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        evict(id);
+                    }
+                }
+            });
+        }
+        return bookmark;
+    }
+
+    /**
+     * Remembered ownership decision of the current user, or null if not decided yet
+     */
+    public Boolean ownership(Long id) {
+        State state = state();
+        return state != null ? state.ownership.get(id) : null;
+    }
+
+    public void rememberOwnership(Long id, boolean owner) {
+        State state = state();
+        if (state != null) {
+            state.ownership.put(id, owner);
+        }
+    }
+
+    /**
+     * Forget a bookmark changed or deleted behind the memo's back
+     */
+    public void evict(Long id) {
+        State state = state();
+        if (state != null) {
+            state.bookmarks.remove(id);
+        }
+    }
+
+    private void remember(Bookmark bookmark) {
+        State state = state();
+        if (state != null && bookmark != null) {
+            state.bookmarks.put(bookmark.getId(), Optional.of(bookmark));
+        }
+    }
+
+    private static State state() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object state = attributes.getAttribute(STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            state = new State();
+            attributes.setAttribute(STATE_ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (State) state;
+    }
+}
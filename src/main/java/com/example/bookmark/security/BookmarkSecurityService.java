@@ -3,7 +3,6 @@ package com.example.bookmark.security;
 import com.example.bookmark.model.Bookmark;
 import com.example.bookmark.model.User;
 import com.example.bookmark.model.UserRole;
-import com.example.bookmark.repository.BookmarkRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,7 +16,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class BookmarkSecurityService {
 
-    private final BookmarkRepository bookmarkRepository;
+    private final BookmarkRequestMemo requestMemo;
 
     /**
      * Check if current user is the owner of the bookmark
@@ -41,11 +40,17 @@ public class BookmarkSecurityService {
             return true;
         }
 
-        // Check ownership
-        return bookmarkRepository.findById(bookmarkId)
+        // Check ownership (decided once per request, the loaded bookmark is reused by the service)
+        Boolean known = requestMemo.ownership(bookmarkId);
+        if (known != null) {
+            return known;
+        }
+        boolean owner = requestMemo.find(bookmarkId)
                 .map(bookmark -> bookmark.getUser() != null &&
                                 bookmark.getUser().getId().equals(userDetails.getUserId()))
                 .orElse(false);
+        requestMemo.rememberOwnership(bookmarkId, owner);
+        return owner;
     }
 
     /**
@@ -103,6 +108,24 @@ public class BookmarkSecurityService {
         return null;
     }
 
+    /**
+     * Get current authenticated user ID
+     * @return current user ID or null if anonymous
+     */
+    public Long getCurrentUserId() {
+        User user = getCurrentUser();
+        return user != null ? user.getId() : null;
+    }
+
+    /**
+     * Check if current user has the ADMIN role
+     * @return true if admin
+     */
+    public boolean isAdmin() {
+        User user = getCurrentUser();
+        return user != null && user.getRole() == UserRole.ADMIN;
+    }
+
     /**
      * Check if current user is authenticated
      * @return true if authenticated
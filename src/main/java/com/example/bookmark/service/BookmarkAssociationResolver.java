@@ -0,0 +1,79 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.exception.ResourceNotFoundException;
+import com.example.bookmark.exception.ValidationException;
+import com.example.bookmark.model.Category;
+import com.example.bookmark.model.Tag;
+import com.example.bookmark.repository.CategoryRepository;
+import com.example.bookmark.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Resolves the category and tag ids of bookmark writes (create, update, createFromUrl).
+ *
+ * Ids are checked against the {@link CategoryTagDictionary} snapshot (read-through):
+ * <ul>
+ *   <li>known ids become {@code getReferenceById} proxies - no SELECT, the insert only
+ *       needs the foreign keys (remaining lazy reads are batched, see default_batch_fetch_size)</li>
+ *   <li>tag ids not in the snapshot (created by a transaction whose reload is still pending)
+ *       are loaded with a single {@code findAllById}</li>
+ *   <li>every tag id that does not exist is reported in one validation error</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkAssociationResolver {
+
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryTagDictionary dictionary;
+
+    /**
+     * @throws ResourceNotFoundException if category not found
+     */
+    public Category resolveCategory(Long categoryId) {
+        if (dictionary.category(categoryId).isPresent()) {
+            return categoryRepository.getReferenceById(categoryId);
+        }
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> ResourceNotFoundException.category(categoryId));
+    }
+
+    /**
+     * @throws ValidationException listing every tag id that does not exist
+     */
+    public Set<Tag> resolveTags(Collection<Long> tagIds) {
+        // Ids are de-duplicated up front and the persistence context hands out one instance
+        // per id, so an identity set is enough - and it never calls Tag.hashCode, which
+        // would initialize the proxies
+        Set<Tag> tags = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Long> unknown = new LinkedHashSet<>();
+        for (Long tagId : new LinkedHashSet<>(tagIds)) {
+            if (dictionary.tag(tagId).isPresent()) {
+                tags.add(tagRepository.getReferenceById(tagId));
+            } else {
+                unknown.add(tagId);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return tags;
+        }
+
+        for (Tag tag : tagRepository.findAllById(unknown)) {
+            tags.add(tag);
+            unknown.remove(tag.getId());
+        }
+        if (!unknown.isEmpty()) {
+            throw ValidationException.unknownTags(new ArrayList<>(unknown));
+        }
+        return tags;
+    }
+}
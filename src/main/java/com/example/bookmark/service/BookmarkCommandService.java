@@ -1,29 +1,47 @@
 package com.example.bookmark.service;
 
 import com.example.bookmark.event.BookmarkEvent;
+import com.example.bookmark.dto.BookmarkView;
+import com.example.bookmark.dto.BulkUpdateBookmarkInput;
+import com.example.bookmark.dto.CreateBookmarkInput;
+import com.example.bookmark.dto.UpdateBookmarkInput;
 import com.example.bookmark.event.BookmarkEventPublisher;
+import com.example.bookmark.event.domain.BookmarkBatchEvent;
 import com.example.bookmark.event.domain.BookmarkCreatedEvent;
 import com.example.bookmark.event.domain.BookmarkDeletedEvent;
+import com.example.bookmark.event.domain.BookmarkSignalsChangedEvent;
+import com.example.bookmark.event.domain.BookmarkState;
 import com.example.bookmark.event.domain.BookmarkUpdatedEvent;
 import com.example.bookmark.exception.ResourceNotFoundException;
 import com.example.bookmark.exception.ValidationException;
 import com.example.bookmark.model.Bookmark;
-import com.example.bookmark.model.Category;
 import com.example.bookmark.model.Tag;
 import com.example.bookmark.model.User;
 import com.example.bookmark.repository.BookmarkRepository;
-import com.example.bookmark.repository.CategoryRepository;
 import com.example.bookmark.repository.TagRepository;
+import com.example.bookmark.search.BookmarkFilterIndex;
+import com.example.bookmark.security.BookmarkRequestMemo;
 import com.example.bookmark.security.BookmarkSecurityService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -45,11 +63,21 @@ import java.util.stream.Collectors;
 public class BookmarkCommandService {
 
     private final BookmarkRepository bookmarkRepository;
-    private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
     private final BookmarkEventPublisher subscriptionEventPublisher;
     private final ApplicationEventPublisher domainEventPublisher;
     private final BookmarkSecurityService securityService;
+    private final BookmarkRequestMemo requestMemo;
+    private final BookmarkAssociationResolver associationResolver;
+    private final VisitCounterService visitCounterService;
+    private final BookmarkFilterIndex filterIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private static final int MAX_BULK_ITEMS = 10_000;
+
+    @Value("${bookmarks.bulk.chunk-size:500}")
+    private int bulkChunkSize;
 
     /**
      * Create a new bookmark
@@ -67,34 +95,8 @@ public class BookmarkCommandService {
         }
 
         Bookmark bookmark = new Bookmark();
-        bookmark.setTitle(title);
-        bookmark.setUrl(url);
-        bookmark.setDescription(description);
         bookmark.setUser(currentUser);  // Set owner
-
-        // Set category
-        if (categoryId != null) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> ResourceNotFoundException.category(categoryId));
-            bookmark.setCategory(category);
-        }
-
-        // Set tags
-        if (tagIds != null && !tagIds.isEmpty()) {
-            Set<Tag> tags = tagIds.stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> ResourceNotFoundException.tag(tagId)))
-                    .collect(Collectors.toSet());
-            bookmark.setTags(tags);
-        }
-
-        // Set optional fields
-        if (isFavorite != null) bookmark.setIsFavorite(isFavorite);
-        if (rating != null) {
-            validateRating(rating);
-            bookmark.setRating(rating);
-        }
-        if (isPublic != null) bookmark.setIsPublic(isPublic);
+        applyChanges(bookmark, title, url, description, categoryId, tagIds, isFavorite, rating, isPublic);
 
         Bookmark saved = bookmarkRepository.save(bookmark);
         log.info("Created bookmark with id: {}", saved.getId());
@@ -117,43 +119,15 @@ public class BookmarkCommandService {
                           List<Long> tagIds, Boolean isFavorite, Integer rating, Boolean isPublic) {
         log.info("Updating bookmark id: {}", id);
 
-        Bookmark bookmark = bookmarkRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
-
-        // Update fields
-        if (title != null) bookmark.setTitle(title);
-        if (url != null) bookmark.setUrl(url);
-        if (description != null) bookmark.setDescription(description);
-
-        // Update category
-        if (categoryId != null) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> ResourceNotFoundException.category(categoryId));
-            bookmark.setCategory(category);
-        }
-
-        // Update tags - JPA handles collection differences automatically
-        if (tagIds != null) {
-            Set<Tag> tags = tagIds.stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> ResourceNotFoundException.tag(tagId)))
-                    .collect(Collectors.toSet());
-            bookmark.setTags(tags);
-        }
-
-        // Update optional fields
-        if (isFavorite != null) bookmark.setIsFavorite(isFavorite);
-        if (rating != null) {
-            validateRating(rating);
-            bookmark.setRating(rating);
-        }
-        if (isPublic != null) bookmark.setIsPublic(isPublic);
+        Bookmark bookmark = requestMemo.findForUpdate(id);
+        BookmarkState previous = BookmarkState.of(bookmark);
+        applyChanges(bookmark, title, url, description, categoryId, tagIds, isFavorite, rating, isPublic);
 
         Bookmark updated = bookmarkRepository.save(bookmark);
         log.info("Updated bookmark id: {}", id);
 
         // Publish domain event (for statistics, async processing)
-        domainEventPublisher.publishEvent(new BookmarkUpdatedEvent(this, updated));
+        domainEventPublisher.publishEvent(new BookmarkUpdatedEvent(this, updated, previous));
 
         // Publish event for GraphQL subscribers (real-time updates)
         subscriptionEventPublisher.publish(new BookmarkEvent(BookmarkEvent.EventType.UPDATED, updated, null));
@@ -169,15 +143,17 @@ public class BookmarkCommandService {
     public boolean delete(Long id) {
         log.info("Deleting bookmark id: {}", id);
 
-        if (!bookmarkRepository.existsById(id)) {
-            throw ResourceNotFoundException.bookmark(id);
-        }
+        // Loaded (not just existence-checked) so the event carries the last state;
+        // built before the DELETE, which detaches the tags
+        Bookmark bookmark = requestMemo.findForUpdate(id);
+        BookmarkDeletedEvent event = new BookmarkDeletedEvent(this, bookmark);
 
-        bookmarkRepository.deleteById(id);
+        bookmarkRepository.delete(bookmark);
+        requestMemo.evict(id);
         log.info("Deleted bookmark id: {}", id);
 
         // Publish domain event (for statistics, async processing)
-        domainEventPublisher.publishEvent(new BookmarkDeletedEvent(this, id));
+        domainEventPublisher.publishEvent(event);
 
         // Publish event for GraphQL subscribers (real-time updates)
         subscriptionEventPublisher.publish(new BookmarkEvent(BookmarkEvent.EventType.DELETED, null, id));
@@ -185,47 +161,184 @@ public class BookmarkCommandService {
         return true;
     }
 
+    /**
+     * Create many bookmarks at once (import)
+     * Requires authentication - user will be automatically set
+     *
+     * Rows are written in chunks of bookmarks.bulk.chunk-size, each chunk in its own
+     * transaction: ids come from the pooled sequence, INSERTs are sent as JDBC batches,
+     * one BookmarkBatchEvent replaces the per-row events, and the persistence context is
+     * cleared afterwards. A failing chunk rolls back alone - earlier chunks stay committed.
+     * Subscribers are not notified per row.
+     */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Bookmark> createAll(List<CreateBookmarkInput> inputs) {
+        User currentUser = securityService.getCurrentUser();
+        if (currentUser == null) {
+            throw new IllegalStateException("User must be authenticated to create bookmarks");
+        }
+        validateBulkSize(inputs.size());
+        inputs.forEach(input -> validateOptionalRating(input.getRating()));
+        log.info("Creating {} bookmarks in chunks of {}", inputs.size(), bulkChunkSize);
+
+        List<Bookmark> created = new ArrayList<>(inputs.size());
+        for (List<CreateBookmarkInput> chunk : chunks(inputs)) {
+            created.addAll(transactionTemplate.execute(status -> {
+                List<Bookmark> bookmarks = new ArrayList<>(chunk.size());
+                for (CreateBookmarkInput input : chunk) {
+                    Bookmark bookmark = new Bookmark();
+                    bookmark.setUser(currentUser);
+                    applyChanges(bookmark, input.getTitle(), input.getUrl(), input.getDescription(),
+                            input.getCategoryId(), input.getTagIds(), input.getIsFavorite(),
+                            input.getRating(), input.getIsPublic());
+                    bookmarks.add(bookmark);
+                }
+                bookmarkRepository.saveAll(bookmarks);
+                entityManager.flush();
+
+                publishBatch(bookmarks.stream().map(bookmark -> new BookmarkCreatedEvent(this, bookmark)).toList(),
+                        List.of(), List.of());
+                entityManager.clear();
+                return bookmarks;
+            }));
+        }
+        return created;
+    }
+
+    /**
+     * Update many bookmarks at once
+     * Only owner or admin can update - every id is checked before the first write
+     *
+     * Same chunking as {@link #createAll}: each chunk loads its bookmarks with one query,
+     * sends the UPDATEs as JDBC batches and publishes one BookmarkBatchEvent.
+     */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Bookmark> updateAll(List<BulkUpdateBookmarkInput> inputs) {
+        validateBulkSize(inputs.size());
+        inputs.forEach(item -> validateOptionalRating(item.getChanges().getRating()));
+        checkOwnership(inputs.stream().map(BulkUpdateBookmarkInput::getId).toList());
+        log.info("Updating {} bookmarks in chunks of {}", inputs.size(), bulkChunkSize);
+
+        List<Bookmark> updated = new ArrayList<>(inputs.size());
+        for (List<BulkUpdateBookmarkInput> chunk : chunks(inputs)) {
+            updated.addAll(transactionTemplate.execute(status -> {
+                List<Long> ids = chunk.stream().map(BulkUpdateBookmarkInput::getId).toList();
+                Map<Long, Bookmark> bookmarksById = bookmarkRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Bookmark::getId, Function.identity()));
+
+                List<Bookmark> bookmarks = new ArrayList<>(chunk.size());
+                List<BookmarkUpdatedEvent> events = new ArrayList<>(chunk.size());
+                for (BulkUpdateBookmarkInput item : chunk) {
+                    Bookmark bookmark = bookmarksById.get(item.getId());
+                    if (bookmark == null) {
+                        throw ResourceNotFoundException.bookmark(item.getId()); // deleted meanwhile
+                    }
+                    BookmarkState previous = BookmarkState.of(bookmark);
+                    UpdateBookmarkInput changes = item.getChanges();
+                    applyChanges(bookmark, changes.getTitle(), changes.getUrl(), changes.getDescription(),
+                            changes.getCategoryId(), changes.getTagIds(), changes.getIsFavorite(),
+                            changes.getRating(), changes.getIsPublic());
+                    bookmarks.add(bookmark);
+                    events.add(new BookmarkUpdatedEvent(this, bookmark, previous));
+                }
+                entityManager.flush();
+
+                publishBatch(List.of(), events, List.of());
+                entityManager.clear();
+                ids.forEach(requestMemo::evict);
+                return bookmarks;
+            }));
+        }
+        return updated;
+    }
+
+    /**
+     * Delete many bookmarks at once
+     * Only owner or admin can delete - every id is checked before the first write
+     * @return number of deleted bookmarks
+     */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteAll(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        validateBulkSize(distinctIds.size());
+        checkOwnership(distinctIds);
+        log.info("Deleting {} bookmarks in chunks of {}", distinctIds.size(), bulkChunkSize);
+
+        int deleted = 0;
+        for (List<Long> chunk : chunks(distinctIds)) {
+            deleted += transactionTemplate.execute(status -> {
+                List<Bookmark> bookmarks = bookmarkRepository.findAllById(chunk);
+                // Built before the DELETEs: the event carries owner and last state
+                List<BookmarkDeletedEvent> events = bookmarks.stream()
+                        .map(bookmark -> new BookmarkDeletedEvent(this, bookmark))
+                        .toList();
+                bookmarkRepository.deleteAll(bookmarks);
+                entityManager.flush();
+
+                publishBatch(List.of(), List.of(), events);
+                entityManager.clear();
+                chunk.forEach(requestMemo::evict);
+                return bookmarks.size();
+            });
+        }
+        return deleted;
+    }
+
     /**
      * Toggle favorite status
-     * Only owner or admin can toggle
+     * Only owner or admin can toggle - checked by the UPDATE itself, which flips the
+     * flag in place, so concurrent toggles never overwrite each other
      */
-    @PreAuthorize("@bookmarkSecurity.isOwner(#id)")
-    public Bookmark toggleFavorite(Long id) {
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    public BookmarkView toggleFavorite(Long id) {
         log.info("Toggling favorite for bookmark id: {}", id);
 
-        Bookmark bookmark = bookmarkRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
-
-        bookmark.setIsFavorite(!bookmark.getIsFavorite());
-        return bookmarkRepository.save(bookmark);
+        if (bookmarkRepository.toggleFavorite(id, ownerScope(), LocalDateTime.now()) == 0) {
+            throw missingOrNotOwned(id);
+        }
+        BookmarkView updated = reloadView(id);
+        // The UPDATE flipped the flag, so the previous value is the opposite
+        domainEventPublisher.publishEvent(new BookmarkSignalsChangedEvent(this, updated,
+                !Boolean.TRUE.equals(updated.getIsFavorite()), updated.getRating()));
+        return updated;
     }
 
     /**
      * Set rating for a bookmark
-     * Only owner or admin can set rating
+     * Only owner or admin can set rating - checked by the UPDATE itself
      */
-    @PreAuthorize("@bookmarkSecurity.isOwner(#id)")
-    public Bookmark setRating(Long id, Integer rating) {
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    public BookmarkView setRating(Long id, Integer rating) {
         log.info("Setting rating {} for bookmark id: {}", rating, id);
 
         validateRating(rating);
 
-        Bookmark bookmark = bookmarkRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
-
-        bookmark.setRating(rating);
-        return bookmarkRepository.save(bookmark);
+        // One statement: the UPDATE returns the rating it replaced (for the statistics delta),
+        // so a concurrent setRating on the same bookmark cannot make it stale
+        List<Object[]> replaced = bookmarkRepository.updateRating(id, ownerScope(), rating, LocalDateTime.now());
+        if (replaced.isEmpty()) {
+            throw missingOrNotOwned(id);
+        }
+        Integer previousRating = replaced.get(0)[1] != null ? ((Number) replaced.get(0)[1]).intValue() : null;
+        BookmarkView updated = reloadView(id);
+        domainEventPublisher.publishEvent(new BookmarkSignalsChangedEvent(this, updated,
+                updated.getIsFavorite(), previousRating));
+        return updated;
     }
 
     /**
      * Record a visit to a bookmark
-     * Can view if public or owner
+     * Can view if public or owner - the count is incremented in place
+     * (visit_count = visit_count + 1), so concurrent visits are never lost
      */
     @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
-    public Bookmark recordVisit(Long id) {
+    public BookmarkView recordVisit(Long id) {
         log.debug("Recording visit for bookmark id: {}", id);
 
-        Bookmark bookmark = bookmarkRepository.findById(id)
+        Bookmark bookmark = requestMemo.find(id)
                 .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
 
         // Check if user can view this bookmark
@@ -233,8 +346,46 @@ public class BookmarkCommandService {
             throw new IllegalStateException("Access denied: cannot view this bookmark");
         }
 
-        bookmark.recordVisit();
-        return bookmarkRepository.save(bookmark);
+        LocalDateTime previousVisit = bookmark.getLastVisitedAt();
+        if (bookmarkRepository.incrementVisitCount(id, LocalDateTime.now()) == 0) {
+            throw ResourceNotFoundException.bookmark(id);
+        }
+        BookmarkView visited = reloadView(id);
+
+        // Visit count and recency feed statistics and search ranking (one visit more than before)
+        BookmarkState after = BookmarkState.of(visited);
+        domainEventPublisher.publishEvent(new BookmarkSignalsChangedEvent(this, visited,
+                after.withVisits(after.visitCount() - 1, previousVisit)));
+        return visited;
+    }
+
+    /**
+     * Record a visit through the write-behind buffer (click tracking)
+     * Can view if public or owner - checked against the in-memory filter index, so a
+     * visit costs no database round-trip (written in batches by VisitCounterService)
+     */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean trackVisit(Long id) {
+        log.debug("Tracking visit for bookmark id: {}", id);
+
+        if (filterIndex.isReady()) {
+            if (!filterIndex.contains(id)) {
+                throw ResourceNotFoundException.bookmark(id);
+            }
+            if (!filterIndex.isVisibleTo(id, securityService.getCurrentUserId(), securityService.isAdmin())) {
+                throw new IllegalStateException("Access denied: cannot view this bookmark");
+            }
+        } else {
+            Bookmark bookmark = requestMemo.find(id)
+                    .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
+            if (!securityService.canView(bookmark)) {
+                throw new IllegalStateException("Access denied: cannot view this bookmark");
+            }
+        }
+
+        visitCounterService.record(id);
+        return true;
     }
 
     /**
@@ -245,14 +396,18 @@ public class BookmarkCommandService {
     public Bookmark addTag(Long bookmarkId, Long tagId) {
         log.info("Adding tag {} to bookmark {}", tagId, bookmarkId);
 
-        Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
-                .orElseThrow(() -> ResourceNotFoundException.bookmark(bookmarkId));
+        Bookmark bookmark = requestMemo.findForUpdate(bookmarkId);
 
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> ResourceNotFoundException.tag(tagId));
 
+        BookmarkState previous = BookmarkState.of(bookmark);
         bookmark.addTag(tag);
-        return bookmarkRepository.save(bookmark);
+        Bookmark updated = bookmarkRepository.save(bookmark);
+
+        // Tag names are searchable - let the search index pick up the change
+        domainEventPublisher.publishEvent(new BookmarkUpdatedEvent(this, updated, previous));
+        return updated;
     }
 
     /**
@@ -263,18 +418,129 @@ public class BookmarkCommandService {
     public Bookmark removeTag(Long bookmarkId, Long tagId) {
         log.info("Removing tag {} from bookmark {}", tagId, bookmarkId);
 
-        Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
-                .orElseThrow(() -> ResourceNotFoundException.bookmark(bookmarkId));
+        Bookmark bookmark = requestMemo.findForUpdate(bookmarkId);
 
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> ResourceNotFoundException.tag(tagId));
 
+        BookmarkState previous = BookmarkState.of(bookmark);
         bookmark.removeTag(tag);
-        return bookmarkRepository.save(bookmark);
+        Bookmark updated = bookmarkRepository.save(bookmark);
+
+        // Tag names are searchable - let the search index pick up the change
+        domainEventPublisher.publishEvent(new BookmarkUpdatedEvent(this, updated, previous));
+        return updated;
     }
 
     // Helper methods
 
+    /**
+     * Apply the given fields (null = unchanged) - shared by single and bulk create/update
+     */
+    private void applyChanges(Bookmark bookmark, String title, String url, String description, Long categoryId,
+                              List<Long> tagIds, Boolean isFavorite, Integer rating, Boolean isPublic) {
+        if (title != null) bookmark.setTitle(title);
+        if (url != null) bookmark.setUrl(url);
+        if (description != null) bookmark.setDescription(description);
+
+        if (categoryId != null) {
+            bookmark.setCategory(associationResolver.resolveCategory(categoryId));
+        }
+
+        // Tags - JPA handles collection differences automatically
+        if (tagIds != null) {
+            bookmark.setTags(associationResolver.resolveTags(tagIds));
+        }
+
+        if (isFavorite != null) bookmark.setIsFavorite(isFavorite);
+        if (rating != null) {
+            validateRating(rating);
+            bookmark.setRating(rating);
+        }
+        if (isPublic != null) bookmark.setIsPublic(isPublic);
+    }
+
+    /**
+     * Every id must exist and (unless admin) belong to the current user.
+     * Owners are read with one projection query per chunk, no entity is loaded.
+     */
+    private void checkOwnership(List<Long> ids) {
+        Long currentUserId = securityService.getCurrentUserId();
+        boolean admin = securityService.isAdmin();
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        List<Long> notOwned = new ArrayList<>();
+        for (List<Long> chunk : chunks(List.copyOf(missing))) {
+            for (Object[] row : bookmarkRepository.findOwnerIdsByIdIn(chunk)) {
+                Long id = (Long) row[0];
+                missing.remove(id);
+                if (!admin && !Objects.equals(row[1], currentUserId)) {
+                    notOwned.add(id);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw ResourceNotFoundException.bookmarks(missing);
+        }
+        if (!notOwned.isEmpty()) {
+            throw new AccessDeniedException("Access denied: not the owner of bookmarks " + notOwned);
+        }
+    }
+
+    private void publishBatch(List<BookmarkCreatedEvent> created, List<BookmarkUpdatedEvent> updated,
+                              List<BookmarkDeletedEvent> deleted) {
+        BookmarkBatchEvent event = new BookmarkBatchEvent(this, created, updated, deleted);
+        domainEventPublisher.publishEvent(event);
+        log.debug("Published batch event for {} bookmarks", event.size());
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += bulkChunkSize) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + bulkChunkSize)));
+        }
+        return chunks;
+    }
+
+    private void validateBulkSize(int size) {
+        if (size > MAX_BULK_ITEMS) {
+            throw ValidationException.invalidInput(
+                    String.format("At most %d bookmarks per bulk mutation, got: %d", MAX_BULK_ITEMS, size));
+        }
+    }
+
+    private void validateOptionalRating(Integer rating) {
+        if (rating != null) {
+            validateRating(rating);
+        }
+    }
+
+    /**
+     * Owner id the in-place updates are restricted to (null for admins: any bookmark)
+     */
+    private Long ownerScope() {
+        return securityService.isAdmin() ? null : securityService.getCurrentUserId();
+    }
+
+    /**
+     * A conditional update matched no row: tell a missing bookmark from one owned by someone else
+     */
+    private RuntimeException missingOrNotOwned(Long id) {
+        if (!bookmarkRepository.existsById(id)) {
+            return ResourceNotFoundException.bookmark(id);
+        }
+        return new AccessDeniedException("Access denied: not the owner of this bookmark");
+    }
+
+    /**
+     * Read back the updated row as a projection (same transaction, so it sees this update);
+     * the caller publishes the ranking signals for statistics and the search indexes
+     */
+    private BookmarkView reloadView(Long id) {
+        requestMemo.evict(id); // updated in place, a memoized entity is stale
+        return bookmarkRepository.findViewById(id)
+                .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
+    }
+
     private void validateRating(Integer rating) {
         if (rating < 1 || rating > 5) {
             throw ValidationException.invalidRating(rating);
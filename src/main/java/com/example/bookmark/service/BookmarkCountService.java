@@ -0,0 +1,107 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.repository.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incrementally maintained bookmark counters for O(1) visible counts.
+ *
+ * A viewer sees every public bookmark plus their own private ones, so the
+ * visible count is {@code public + private(viewer)} (admins see the total).
+ * The counters are seeded from the database once on startup and then kept
+ * current by BookmarkCountEventListener from the bookmark domain events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkCountService {
+
+    private final BookmarkRepository bookmarkRepository;
+
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong publicCount = new AtomicLong();
+    private final Map<Long, AtomicLong> privateCountByUser = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * Seed counters from the database
+     * (runs after DataInitializer, which is a CommandLineRunner)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        privateCountByUser.clear();
+        long privateTotal = 0;
+        for (Object[] row : bookmarkRepository.countPrivateByUser()) {
+            long count = (Long) row[1];
+            privateTotal += count;
+            if (row[0] != null) {
+                privateCountByUser.put((Long) row[0], new AtomicLong(count));
+            }
+        }
+        publicCount.set(bookmarkRepository.countPublic());
+        totalCount.set(publicCount.get() + privateTotal);
+        ready = true;
+
+        log.info("Bookmark counters initialized: total={}, public={}, owners with private bookmarks={}",
+                totalCount.get(), publicCount.get(), privateCountByUser.size());
+    }
+
+    /**
+     * @return false until the counters have been seeded
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of bookmarks visible to the given viewer
+     *
+     * @param viewerId current user id (null for anonymous)
+     * @param admin whether the current user is an administrator
+     */
+    public long visibleCount(Long viewerId, boolean admin) {
+        if (admin) {
+            return totalCount.get();
+        }
+        if (viewerId == null) {
+            return publicCount.get();
+        }
+        AtomicLong owned = privateCountByUser.get(viewerId);
+        return publicCount.get() + (owned != null ? owned.get() : 0);
+    }
+
+    public void onCreated(Long userId, boolean isPublic) {
+        totalCount.incrementAndGet();
+        adjust(userId, isPublic, 1);
+    }
+
+    public void onDeleted(Long userId, boolean isPublic) {
+        totalCount.decrementAndGet();
+        adjust(userId, isPublic, -1);
+    }
+
+    public void onVisibilityChanged(Long userId, boolean wasPublic, boolean isPublic) {
+        if (wasPublic == isPublic) {
+            return;
+        }
+        adjust(userId, wasPublic, -1);
+        adjust(userId, isPublic, 1);
+    }
+
+    private void adjust(Long userId, boolean isPublic, long delta) {
+        if (isPublic) {
+            publicCount.addAndGet(delta);
+        } else if (userId != null) {
+            privateCountByUser.computeIfAbsent(userId, id -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+}
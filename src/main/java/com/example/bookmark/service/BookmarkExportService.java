@@ -0,0 +1,180 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.dto.BookmarkExportRow;
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.dto.ExportFormat;
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.repository.BookmarkRepository;
+import com.example.bookmark.repository.CategoryRepository;
+import com.example.bookmark.repository.TagRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Streams all bookmarks of a user as NDJSON (or one JSON array).
+ *
+ * Memory stays constant whatever the number of bookmarks:
+ * <ul>
+ *   <li>rows come from a forward-only, read-only cursor ({@link BookmarkRepository#streamByUserId})</li>
+ *   <li>they are handled in chunks of {@value #CHUNK_SIZE}: one IN query for the chunk's tag ids,
+ *       category and tag names from the {@link CategoryTagDictionary}</li>
+ *   <li>each chunk is serialized straight into the output and flushed, then the persistence
+ *       context is cleared so the loaded entities can be collected</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final CategoryTagDictionary dictionary;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write every bookmark of the user to the output (not closed)
+     * @return number of exported bookmarks
+     */
+    @Transactional(readOnly = true)
+    public int export(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting bookmarks of user {} as {}", userId, format);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (format == ExportFormat.NDJSON) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        } else {
+            generator.writeStartArray();
+        }
+
+        int exported = 0;
+        try (Stream<Bookmark> bookmarks = bookmarkRepository.streamByUserId(userId)) {
+            Iterator<Bookmark> cursor = bookmarks.iterator();
+            List<Bookmark> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    exported += writeChunk(chunk, generator);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                exported += writeChunk(chunk, generator);
+            }
+        }
+
+        if (format == ExportFormat.NDJSON) {
+            if (exported > 0) {
+                generator.writeRaw('\n');
+            }
+        } else {
+            generator.writeEndArray();
+        }
+        generator.close(); // flushes, leaves the output open
+        log.info("Exported {} bookmarks of user {}", exported, userId);
+        return exported;
+    }
+
+    private int writeChunk(List<Bookmark> chunk, JsonGenerator generator) throws IOException {
+        Map<Long, List<String>> tagNames = tagNames(chunk.stream().map(Bookmark::getId).toList());
+        Map<Long, String> categoryNames = categoryNames(chunk);
+
+        for (Bookmark bookmark : chunk) {
+            generator.writeObject(new BookmarkExportRow(
+                    bookmark.getId(),
+                    bookmark.getTitle(),
+                    bookmark.getUrl(),
+                    bookmark.getDescription(),
+                    categoryNames.get(bookmark.getCategoryId()),
+                    tagNames.getOrDefault(bookmark.getId(), List.of()),
+                    bookmark.getIsFavorite(),
+                    bookmark.getRating(),
+                    bookmark.getIsPublic(),
+                    bookmark.getVisitCount(),
+                    bookmark.getLastVisitedAt(),
+                    bookmark.getThumbnailUrl(),
+                    bookmark.getFaviconUrl(),
+                    bookmark.getSiteName(),
+                    bookmark.getAuthor(),
+                    bookmark.getPublishedDate(),
+                    bookmark.getCreatedAt(),
+                    bookmark.getUpdatedAt()
+            ));
+        }
+        generator.flush();
+
+        // Detach the chunk - the cursor keeps going, the entities can be collected
+        entityManager.clear();
+        return chunk.size();
+    }
+
+    /**
+     * bookmarkId -> tag names (sorted), tag ids read with one query for the whole chunk
+     */
+    private Map<Long, List<String>> tagNames(List<Long> bookmarkIds) {
+        List<Object[]> rows = tagRepository.findTagIdsByBookmarkIds(bookmarkIds);
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Object[] row : rows) {
+            Long tagId = (Long) row[1];
+            dictionary.tag(tagId).map(TagView::getName)
+                    .ifPresentOrElse(name -> names.put(tagId, name), () -> missing.add(tagId));
+        }
+        if (!missing.isEmpty()) {
+            tagRepository.findAllById(missing).forEach(tag -> names.put(tag.getId(), tag.getName()));
+        }
+
+        Map<Long, List<String>> tagsByBookmark = new HashMap<>();
+        for (Object[] row : rows) {
+            String name = names.get((Long) row[1]);
+            if (name != null) {
+                tagsByBookmark.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(name);
+            }
+        }
+        tagsByBookmark.values().forEach(tags -> tags.sort(Comparator.naturalOrder()));
+        return tagsByBookmark;
+    }
+
+    /**
+     * categoryId -> name (the category proxies of the chunk are never initialized)
+     */
+    private Map<Long, String> categoryNames(List<Bookmark> chunk) {
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Bookmark bookmark : chunk) {
+            Long categoryId = bookmark.getCategoryId();
+            if (categoryId != null && !names.containsKey(categoryId)) {
+                dictionary.category(categoryId).map(CategoryView::getName)
+                        .ifPresentOrElse(name -> names.put(categoryId, name), () -> missing.add(categoryId));
+            }
+        }
+        if (!missing.isEmpty()) {
+            categoryRepository.findAllById(missing).forEach(category -> names.put(category.getId(), category.getName()));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.dto.ImportProgress;
+import com.example.bookmark.dto.ImportStatus;
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.event.ImportProgressPublisher;
+import com.example.bookmark.event.domain.BookmarkBatchEvent;
+import com.example.bookmark.event.domain.BookmarkCreatedEvent;
+import com.example.bookmark.exception.ResourceNotFoundException;
+import com.example.bookmark.exception.ValidationException;
+import com.example.bookmark.model.Bookmark;
+import com.example.bookmark.model.Category;
+import com.example.bookmark.model.Tag;
+import com.example.bookmark.model.User;
+import com.example.bookmark.repository.BookmarkRepository;
+import com.example.bookmark.repository.CategoryRepository;
+import com.example.bookmark.repository.TagRepository;
+import com.example.bookmark.repository.UserRepository;
+import com.example.bookmark.security.BookmarkSecurityService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Imports browser bookmark files (Netscape bookmarks.html) in the background.
+ *
+ * The upload is spooled to a temporary file and read by {@link NetscapeBookmarkParser}
+ * one link at a time, so neither the file nor a DOM is ever held in memory. Links are
+ * written in chunks of bookmarks.bulk.chunk-size, one transaction each, exactly like the
+ * bulk mutations: JDBC-batched INSERTs, one BookmarkBatchEvent per chunk, persistence
+ * context cleared afterwards. Progress is published after every committed chunk
+ * (subscription importProgress).
+ *
+ * Mapping:
+ * <ul>
+ *   <li>the innermost folder becomes the category, TAGS become tags - both looked up by
+ *       name (case-insensitive) in the {@link CategoryTagDictionary}, missing ones are
+ *       created in the chunk's transaction and the dictionary reloads after its commit</li>
+ *   <li>ADD_DATE becomes createdAt</li>
+ *   <li>links that are not http(s)/ftp, longer than the url column, repeated in the file
+ *       or already bookmarked by the user are skipped</li>
+ * </ul>
+ * A failing chunk stops the import; chunks committed before it are kept.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkImportService {
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+    private static final String IMPORTED_CATEGORY_DESCRIPTION = "Imported from browser bookmarks";
+
+    private final BookmarkRepository bookmarkRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final UserRepository userRepository;
+    private final CategoryTagDictionary dictionary;
+    private final BookmarkSecurityService securityService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher domainEventPublisher;
+    private final ImportProgressPublisher progressPublisher;
+
+    @Value("${bookmarks.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${bookmarks.import.max-concurrent:2}")
+    private int maxConcurrentImports;
+
+    @Value("${bookmarks.import.queue-capacity:10}")
+    private int queueCapacity;
+
+    // Imports are long and write-heavy: they get their own small pool instead of
+    // competing with the event listeners for the @Async executor
+    private final ThreadPoolTaskExecutor importExecutor = new ThreadPoolTaskExecutor();
+
+    private record ChunkResult(int imported, int skipped, int categoriesCreated, int tagsCreated) {
+    }
+
+    private static final class Totals {
+        int imported;
+        int skipped;
+        int categoriesCreated;
+        int tagsCreated;
+
+        void add(ChunkResult result) {
+            imported += result.imported();
+            skipped += result.skipped();
+            categoriesCreated += result.categoriesCreated();
+            tagsCreated += result.tagsCreated();
+        }
+    }
+
+    /**
+     * The import pool (reported by SystemMetricsService)
+     */
+    ThreadPoolTaskExecutor importExecutor() {
+        return importExecutor;
+    }
+
+    @PostConstruct
+    void startExecutor() {
+        importExecutor.setCorePoolSize(maxConcurrentImports);
+        importExecutor.setMaxPoolSize(maxConcurrentImports);
+        importExecutor.setQueueCapacity(queueCapacity);
+        importExecutor.setThreadNamePrefix("Import-");
+        importExecutor.initialize();
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        importExecutor.shutdown();
+    }
+
+    /**
+     * Accept a bookmarks.html upload and import it in the background
+     * Requires authentication - imported bookmarks belong to the current user
+     * @return the initial progress, its jobId identifies the import
+     */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    public ImportProgress start(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw ValidationException.invalidInput("Bookmark file is empty");
+        }
+        User currentUser = securityService.getCurrentUser();
+        if (currentUser == null) {
+            throw new IllegalStateException("User must be authenticated to import bookmarks");
+        }
+
+        // The multipart file only lives as long as the request
+        Path upload = Files.createTempFile("bookmark-import-", ".html");
+        file.transferTo(upload);
+
+        String jobId = UUID.randomUUID().toString();
+        log.info("Starting import {} of {} ({} bytes) for user {}",
+                jobId, file.getOriginalFilename(), file.getSize(), currentUser.getId());
+        Long userId = currentUser.getId();
+        ImportProgress started = progress(jobId, ImportStatus.RUNNING, new Totals(), null);
+        progressPublisher.start(started, userId);
+
+        try {
+            importExecutor.execute(() -> runImport(jobId, upload, userId));
+        } catch (TaskRejectedException e) {
+            deleteQuietly(upload);
+            progressPublisher.publish(progress(jobId, ImportStatus.FAILED, new Totals(), "Too many imports running"));
+            throw new IllegalStateException("Too many imports running, try again later");
+        }
+        return started;
+    }
+
+    /**
+     * Progress of an import, for the user who started it (or an admin)
+     * @throws ResourceNotFoundException if the import is unknown or expired
+     */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
+    public Flux<ImportProgress> progressOf(String jobId) {
+        Long ownerId = progressPublisher.ownerOf(jobId)
+                .orElseThrow(() -> ResourceNotFoundException.importJob(jobId));
+        if (!securityService.isAdmin() && !ownerId.equals(securityService.getCurrentUserId())) {
+            throw new AccessDeniedException("Access denied: not the owner of this import");
+        }
+        return progressPublisher.progressOf(jobId);
+    }
+
+    private void runImport(String jobId, Path upload, Long userId) {
+        Totals totals = new Totals();
+        // Urls of the file seen so far (the file may list a link in several folders)
+        Set<String> seenUrls = new HashSet<>();
+        try (Reader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+            NetscapeBookmarkParser parser = new NetscapeBookmarkParser(reader);
+            List<NetscapeBookmarkParser.Entry> chunk = new ArrayList<>(chunkSize);
+            NetscapeBookmarkParser.Entry entry;
+            while ((entry = parser.next()) != null) {
+                if (!isImportable(entry) || !seenUrls.add(entry.url())) {
+                    totals.skipped++;
+                    continue;
+                }
+                chunk.add(entry);
+                if (chunk.size() == chunkSize) {
+                    totals.add(importChunk(chunk, userId));
+                    chunk.clear();
+                    progressPublisher.publish(progress(jobId, ImportStatus.RUNNING, totals, null));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                totals.add(importChunk(chunk, userId));
+            }
+
+            log.info("Import {} completed: {} imported, {} skipped", jobId, totals.imported, totals.skipped);
+            progressPublisher.publish(progress(jobId, ImportStatus.COMPLETED, totals, null));
+        } catch (Exception e) {
+            log.error("Import {} failed after {} bookmarks", jobId, totals.imported, e);
+            progressPublisher.publish(progress(jobId, ImportStatus.FAILED, totals, e.getMessage()));
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private ChunkResult importChunk(List<NetscapeBookmarkParser.Entry> chunk, Long userId) {
+        try {
+            return transactionTemplate.execute(status -> writeChunk(chunk, userId));
+        } catch (DataIntegrityViolationException e) {
+            // A category/tag of this chunk was created concurrently (unique name): retry once
+            // against a fresh dictionary
+            log.debug("Retrying import chunk after concurrent category/tag creation: {}", e.getMessage());
+            dictionary.reload();
+            return transactionTemplate.execute(status -> writeChunk(chunk, userId));
+        }
+    }
+
+    private ChunkResult writeChunk(List<NetscapeBookmarkParser.Entry> chunk, Long userId) {
+        User owner = userRepository.getReferenceById(userId);
+        Set<String> alreadyBookmarked = new HashSet<>(bookmarkRepository.findUrlsByUserIdAndUrlIn(
+                userId, chunk.stream().map(NetscapeBookmarkParser.Entry::url).toList()));
+
+        // Categories/tags created by this chunk (not in the dictionary until it commits)
+        Map<String, Category> newCategories = new HashMap<>();
+        Map<String, Tag> newTags = new HashMap<>();
+
+        List<Bookmark> bookmarks = new ArrayList<>(chunk.size());
+        for (NetscapeBookmarkParser.Entry entry : chunk) {
+            if (alreadyBookmarked.contains(entry.url())) {
+                continue;
+            }
+            Bookmark bookmark = new Bookmark();
+            bookmark.setUser(owner);
+            bookmark.setUrl(entry.url());
+            bookmark.setTitle(truncate(entry.title() != null ? entry.title() : entry.url()));
+            bookmark.setDescription(truncate(entry.description()));
+            bookmark.setCreatedAt(entry.addDate());
+            if (entry.folder() != null) {
+                bookmark.setCategory(category(entry.folder(), newCategories));
+            }
+            if (!entry.tags().isEmpty()) {
+                // Identity set: hashing a Tag proxy would initialize it
+                Set<Tag> tags = Collections.newSetFromMap(new IdentityHashMap<>());
+                entry.tags().forEach(name -> tags.add(tag(name, newTags)));
+                bookmark.setTags(tags);
+            }
+            bookmarks.add(bookmark);
+        }
+
+        bookmarkRepository.saveAll(bookmarks);
+        entityManager.flush();
+        domainEventPublisher.publishEvent(new BookmarkBatchEvent(this,
+                bookmarks.stream().map(bookmark -> new BookmarkCreatedEvent(this, bookmark)).toList(),
+                List.of(), List.of()));
+        entityManager.clear();
+
+        if (!newCategories.isEmpty() || !newTags.isEmpty()) {
+            dictionary.reloadAfterCommit();
+        }
+        return new ChunkResult(bookmarks.size(), chunk.size() - bookmarks.size(),
+                newCategories.size(), newTags.size());
+    }
+
+    private Category category(String folder, Map<String, Category> newCategories) {
+        String name = truncate(folder);
+        return dictionary.categoryNamed(name)
+                .map(CategoryView::getId)
+                .map(categoryRepository::getReferenceById)
+                .orElseGet(() -> newCategories.computeIfAbsent(name.toLowerCase(Locale.ROOT),
+                        key -> categoryRepository.save(new Category(name, IMPORTED_CATEGORY_DESCRIPTION))));
+    }
+
+    private Tag tag(String tagName, Map<String, Tag> newTags) {
+        String name = truncate(tagName);
+        return dictionary.tagNamed(name)
+                .map(TagView::getId)
+                .map(tagRepository::getReferenceById)
+                .orElseGet(() -> newTags.computeIfAbsent(name.toLowerCase(Locale.ROOT),
+                        key -> tagRepository.save(new Tag(name, null))));
+    }
+
+    private static boolean isImportable(NetscapeBookmarkParser.Entry entry) {
+        String url = entry.url();
+        if (url == null || url.isEmpty() || url.length() > MAX_COLUMN_LENGTH) {
+            return false;
+        }
+        // Bookmarklets (javascript:), smart folders (place:), browser-internal pages ...
+        String lower = url.toLowerCase(Locale.ROOT);
+        return lower.startsWith("http://") || lower.startsWith("https://") || lower.startsWith("ftp://");
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_COLUMN_LENGTH ? value.substring(0, MAX_COLUMN_LENGTH) : value;
+    }
+
+    private static ImportProgress progress(String jobId, ImportStatus status, Totals totals, String message) {
+        return new ImportProgress(jobId, status, totals.imported + totals.skipped, totals.imported,
+                totals.skipped, totals.categoriesCreated, totals.tagsCreated, message);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import upload {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -3,21 +3,22 @@ package com.example.bookmark.service;
 import com.example.bookmark.dto.UrlMetadata;
 import com.example.bookmark.event.BookmarkEvent;
 import com.example.bookmark.event.BookmarkEventPublisher;
-import com.example.bookmark.exception.ResourceNotFoundException;
+import com.example.bookmark.event.domain.BookmarkCreatedEvent;
+import com.example.bookmark.event.domain.BookmarkState;
+import com.example.bookmark.event.domain.BookmarkUpdatedEvent;
 import com.example.bookmark.model.Bookmark;
-import com.example.bookmark.model.Category;
-import com.example.bookmark.model.Tag;
+import com.example.bookmark.model.User;
 import com.example.bookmark.repository.BookmarkRepository;
-import com.example.bookmark.repository.CategoryRepository;
-import com.example.bookmark.repository.TagRepository;
+import com.example.bookmark.security.BookmarkRequestMemo;
+import com.example.bookmark.security.BookmarkSecurityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Service for bookmark metadata operations.
@@ -36,10 +37,12 @@ import java.util.stream.Collectors;
 public class BookmarkMetadataService {
 
     private final BookmarkRepository bookmarkRepository;
-    private final CategoryRepository categoryRepository;
-    private final TagRepository tagRepository;
     private final UrlMetadataService urlMetadataService;
     private final BookmarkEventPublisher eventPublisher;
+    private final ApplicationEventPublisher domainEventPublisher;
+    private final BookmarkSecurityService securityService;
+    private final BookmarkRequestMemo requestMemo;
+    private final BookmarkAssociationResolver associationResolver;
 
     /**
      * Fetch metadata from URL without creating bookmark
@@ -52,13 +55,21 @@ public class BookmarkMetadataService {
 
     /**
      * Create bookmark from URL with auto-fetched metadata
+     * Requires authentication - user will be automatically set
      */
+    @PreAuthorize("@bookmarkSecurity.isAuthenticated()")
     public Bookmark createFromUrl(String url, Long categoryId, List<Long> tagIds,
                                   Boolean isFavorite, Boolean isPublic, Boolean fetchMetadata) {
         log.info("Creating bookmark from URL: {} (fetchMetadata: {})", url, fetchMetadata);
 
+        User currentUser = securityService.getCurrentUser();
+        if (currentUser == null) {
+            throw new IllegalStateException("User must be authenticated to create bookmarks");
+        }
+
         Bookmark bookmark = new Bookmark();
         bookmark.setUrl(url);
+        bookmark.setUser(currentUser);  // Set owner
 
         // Fetch and apply metadata if requested
         if (Boolean.TRUE.equals(fetchMetadata)) {
@@ -71,18 +82,12 @@ public class BookmarkMetadataService {
 
         // Set category
         if (categoryId != null) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> ResourceNotFoundException.category(categoryId));
-            bookmark.setCategory(category);
+            bookmark.setCategory(associationResolver.resolveCategory(categoryId));
         }
 
         // Set tags
         if (tagIds != null && !tagIds.isEmpty()) {
-            Set<Tag> tags = tagIds.stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> ResourceNotFoundException.tag(tagId)))
-                    .collect(Collectors.toSet());
-            bookmark.setTags(tags);
+            bookmark.setTags(associationResolver.resolveTags(tagIds));
         }
 
         // Set optional fields
@@ -92,6 +97,9 @@ public class BookmarkMetadataService {
         Bookmark saved = bookmarkRepository.save(bookmark);
         log.info("Created bookmark from URL with id: {}", saved.getId());
 
+        // Publish domain event (for statistics, counters)
+        domainEventPublisher.publishEvent(new BookmarkCreatedEvent(this, saved));
+
         // Publish event for subscribers
         eventPublisher.publish(new BookmarkEvent(BookmarkEvent.EventType.CREATED, saved, null));
 
@@ -104,8 +112,8 @@ public class BookmarkMetadataService {
     public Bookmark refreshMetadata(Long id) {
         log.info("Refreshing metadata for bookmark id: {}", id);
 
-        Bookmark bookmark = bookmarkRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
+        Bookmark bookmark = requestMemo.findForUpdate(id);
+        BookmarkState previous = BookmarkState.of(bookmark);
 
         UrlMetadata metadata = urlMetadataService.fetchMetadata(bookmark.getUrl());
         applyMetadata(bookmark, metadata);
@@ -113,6 +121,9 @@ public class BookmarkMetadataService {
         Bookmark updated = bookmarkRepository.save(bookmark);
         log.info("Refreshed metadata for bookmark id: {}", id);
 
+        // Publish domain event (title/description/siteName are searchable)
+        domainEventPublisher.publishEvent(new BookmarkUpdatedEvent(this, updated, previous));
+
         // Publish event for subscribers
         eventPublisher.publish(new BookmarkEvent(BookmarkEvent.EventType.UPDATED, updated, null));
 
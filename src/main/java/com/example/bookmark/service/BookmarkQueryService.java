@@ -3,21 +3,39 @@ package com.example.bookmark.service;
 import com.example.bookmark.dto.*;
 import com.example.bookmark.exception.ResourceNotFoundException;
 import com.example.bookmark.model.Bookmark;
-import com.example.bookmark.model.User;
+import com.example.bookmark.model.BookmarkReference;
+import com.example.bookmark.repository.BookmarkColumn;
 import com.example.bookmark.repository.BookmarkRepository;
+import com.example.bookmark.repository.BookmarkSpecifications;
+import com.example.bookmark.repository.TagRepository;
+import com.example.bookmark.search.BookmarkFilterIndex;
+import com.example.bookmark.search.BookmarkSearchIndex;
+import com.example.bookmark.search.BookmarkSuggestionIndex;
+import com.example.bookmark.security.BookmarkRequestMemo;
 import com.example.bookmark.security.BookmarkSecurityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Query service for bookmark read operations.
@@ -36,27 +54,43 @@ import java.util.stream.Collectors;
 public class BookmarkQueryService {
 
     private final BookmarkRepository bookmarkRepository;
+    private final TagRepository tagRepository;
     private final BookmarkSecurityService securityService;
+    private final BookmarkRequestMemo requestMemo;
+    private final BookmarkCountService countService;
+    private final BookmarkSearchIndex searchIndex;
+    private final BookmarkSuggestionIndex suggestionIndex;
+    private final BookmarkFilterIndex filterIndex;
+    private final CategoryTagDictionary dictionary;
+
+    // Lists read only the columns the GraphQL selection asked for (see BookmarkColumn)
+    @Value("${bookmarks.query.projections-enabled:true}")
+    private boolean projectionsEnabled;
+
+    // List forms served from the in-memory indexes load at most this many matches (in id order);
+    // the cursor forms page through all of them
+    @Value("${bookmarks.query.max-list-results:500}")
+    private int maxListResults;
 
     /**
      * Find all bookmarks
      * Returns only public bookmarks or user's own bookmarks
      */
-    public List<Bookmark> findAll() {
+    public List<? extends BookmarkReference> findAll(Set<BookmarkColumn> columns) {
         log.debug("Finding all bookmarks");
-        List<Bookmark> allBookmarks = bookmarkRepository.findAll();
-        return filterViewableBookmarks(allBookmarks);
+        return list(viewable(), Sort.unsorted(), null, columns);
     }
 
     /**
      * Find bookmark by ID
      * Only returns if public or owned by current user
+     * (read through the request memo, so a bookmark already loaded by this request is reused)
      * @throws ResourceNotFoundException if bookmark not found
      */
     @PostAuthorize("@bookmarkSecurity.canView(returnObject)")
     public Bookmark findById(Long id) {
         log.debug("Finding bookmark by id: {}", id);
-        return bookmarkRepository.findById(id)
+        return requestMemo.find(id)
                 .orElseThrow(() -> ResourceNotFoundException.bookmark(id));
     }
 
@@ -64,88 +98,194 @@ public class BookmarkQueryService {
      * Find bookmarks by category
      * Returns only viewable bookmarks
      */
-    public List<Bookmark> findByCategory(Long categoryId) {
+    public List<? extends BookmarkReference> findByCategory(Long categoryId, Set<BookmarkColumn> columns) {
         log.debug("Finding bookmarks by category: {}", categoryId);
-        List<Bookmark> bookmarks = bookmarkRepository.findByCategoryId(categoryId);
-        return filterViewableBookmarks(bookmarks);
+        return list(viewable().and(BookmarkSpecifications.inCategory(categoryId)), Sort.unsorted(), null, columns);
     }
 
     /**
-     * Simple search by title
-     * Returns only viewable bookmarks
+     * Simple full-text search (title, description, site name, tag names)
+     * Returns only viewable bookmarks, at most bookmarks.query.max-list-results of them in id order
+     * (searchBookmarksConnection pages through all matches)
      */
-    public List<Bookmark> searchByTitle(String query) {
+    public List<? extends BookmarkReference> searchByTitle(String query, Set<BookmarkColumn> columns) {
         log.debug("Searching bookmarks by title: {}", query);
-        List<Bookmark> bookmarks = bookmarkRepository.findByTitleContainingIgnoreCase(query);
-        return filterViewableBookmarks(bookmarks);
+        if (bitmapFilterReady()) {
+            return listMatches(textHits(query), columns);
+        }
+        return list(viewable().and(BookmarkSpecifications.titleOrDescriptionContains(query)),
+                Sort.by("id"), maxListResults, columns);
+    }
+
+    /**
+     * Full-text search ranked by relevance (BM25), popularity and recency
+     * Returns only viewable bookmarks, best match first
+     */
+    public List<? extends BookmarkReference> rankedSearch(String query, Integer limit, Set<BookmarkColumn> columns) {
+        int pageSize = Math.min(limit != null ? limit : 20, 100);
+        log.debug("Ranked search: {} (limit: {})", query, pageSize);
+
+        if (!searchIndex.isReady()) {
+            return list(viewable().and(BookmarkSpecifications.titleOrDescriptionContains(query)),
+                    Sort.by("id"), pageSize, columns);
+        }
+
+        // Visibility is applied while ranking, and again in SQL when loading the hits
+        List<Long> rankedIds = searchIndex.rank(query, securityService.getCurrentUserId(),
+                securityService.isAdmin(), pageSize);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BookmarkReference> byId = new HashMap<>();
+        for (BookmarkReference hit : list(viewable().and(BookmarkSpecifications.idIn(
+                rankedIds.stream().mapToLong(Long::longValue).toArray())), Sort.unsorted(), null, columns)) {
+            byId.put(hit.getId(), hit);
+        }
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Autocomplete: public bookmark titles and tag names starting with the prefix,
+     * most popular first (served from the pre-ranked suggestion trie, no database access)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Suggestion> suggest(String prefix, Integer limit) {
+        int size = Math.max(0, Math.min(limit != null ? limit : 5, 10));
+        log.debug("Suggest: {} (limit: {})", prefix, size);
+        return suggestionIndex.suggest(prefix, size);
     }
 
     /**
      * Advanced search with multiple filters
-     * Returns only viewable bookmarks
+     * Returns only viewable bookmarks, at most bookmarks.query.max-list-results of them in id order
+     * (advancedSearchConnection pages through all matches)
      */
-    public List<Bookmark> advancedSearch(BookmarkFilter filter) {
+    public List<? extends BookmarkReference> advancedSearch(BookmarkFilter filter, Set<BookmarkColumn> columns) {
         log.debug("Advanced search with filter: {}", filter);
-        List<Bookmark> bookmarks = bookmarkRepository.searchBookmarks(
-                filter.getQuery(),
-                filter.getCategoryId(),
-                filter.getTagName(),
-                filter.getIsFavorite(),
-                filter.getMinRating()
-        );
-        return filterViewableBookmarks(bookmarks);
+        if (bitmapFilterReady()) {
+            return listMatches(selectMatches(filter), columns);
+        }
+        return list(viewable().and(filterMatches(filter)), Sort.by("id"), maxListResults, columns);
+    }
+
+    /**
+     * A page of advanced search results plus category / tag / site facet counts over all matches.
+     * The counts come from the bitmap filter index in one pass (see {@link BookmarkFilterIndex#facets}),
+     * so there is no query per facet value.
+     *
+     * @param facetLimit maximum values per facet (default 10, max 50)
+     */
+    public SearchFacets searchFacets(BookmarkFilter filter, Integer first, String after, Integer facetLimit,
+                                     boolean includeTotalCount) {
+        log.debug("Search facets: {} (first: {}, after: {})", filter, first, after);
+        int limit = Math.max(0, Math.min(facetLimit != null ? facetLimit : 10, 50));
+
+        if (!bitmapFilterReady()) {
+            // Facets need the bitmap index; only serve the results while it is built at startup
+            return new SearchFacets(advancedSearchWithCursor(filter, first, after, includeTotalCount),
+                    List.of(), List.of(), List.of());
+        }
+
+        RoaringBitmap matches = selectMatches(filter);
+        // Category values are named from the in-memory dictionary (no query)
+        BookmarkFilterIndex.Facets facets = filterIndex.facets(matches, limit,
+                categoryId -> dictionary.category(categoryId).map(CategoryView::getName).orElse(null));
+
+        return new SearchFacets(findBitmapConnection(matches, first, after, includeTotalCount),
+                facets.categories(),
+                facets.tags(),
+                facets.sites());
     }
 
     /**
      * Find favorite bookmarks
      * Returns only viewable bookmarks
      */
-    public List<Bookmark> findFavorites() {
+    public List<? extends BookmarkReference> findFavorites(Set<BookmarkColumn> columns) {
         log.debug("Finding favorite bookmarks");
-        List<Bookmark> favorites = bookmarkRepository.findByIsFavoriteTrue();
-        return filterViewableBookmarks(favorites);
+        return list(viewable().and(BookmarkSpecifications.isFavorite(true)), Sort.unsorted(), null, columns);
     }
 
     /**
      * Find bookmarks by tag name
      * Returns only viewable bookmarks
      */
-    public List<Bookmark> findByTag(String tagName) {
+    public List<? extends BookmarkReference> findByTag(String tagName, Set<BookmarkColumn> columns) {
         log.debug("Finding bookmarks by tag: {}", tagName);
-        List<Bookmark> bookmarks = bookmarkRepository.findByTagName(tagName);
-        return filterViewableBookmarks(bookmarks);
+        return list(viewable().and(BookmarkSpecifications.hasTagNamed(tagName)), Sort.unsorted(), null, columns);
+    }
+
+    /**
+     * Viewable bookmarks of each of the given categories, in one query (Category.bookmarks
+     * DataLoader batch). Categories without viewable bookmarks map to an empty list.
+     */
+    public Map<Long, List<BookmarkReference>> findByCategories(Collection<Long> categoryIds,
+                                                               Set<BookmarkColumn> columns) {
+        log.debug("Finding bookmarks of {} categories", categoryIds.size());
+        Map<Long, List<BookmarkReference>> byCategory = emptyLists(categoryIds);
+        for (BookmarkReference bookmark : list(viewable().and(BookmarkSpecifications.inCategories(categoryIds)),
+                Sort.by("id"), null, withColumn(columns, BookmarkColumn.CATEGORY_ID))) {
+            byCategory.get(bookmark.getCategoryId()).add(bookmark);
+        }
+        return byCategory;
+    }
+
+    /**
+     * Viewable bookmarks of each of the given tags, in two queries (Tag.bookmarks DataLoader
+     * batch): the bookmarks having any of the tags, and the (bookmark, tag) pairs to group them.
+     * Tags without viewable bookmarks map to an empty list.
+     */
+    public Map<Long, List<BookmarkReference>> findByTags(Collection<Long> tagIds, Set<BookmarkColumn> columns) {
+        log.debug("Finding bookmarks of {} tags", tagIds.size());
+        Map<Long, BookmarkReference> bookmarks = new HashMap<>();
+        for (BookmarkReference bookmark : list(viewable().and(BookmarkSpecifications.hasAnyTag(tagIds)),
+                Sort.unsorted(), null, columns)) {
+            bookmarks.put(bookmark.getId(), bookmark);
+        }
+
+        Map<Long, List<BookmarkReference>> byTag = emptyLists(tagIds);
+        for (Object[] row : tagRepository.findBookmarkIdsByTagIds(tagIds)) {
+            BookmarkReference bookmark = bookmarks.get((Long) row[0]);
+            if (bookmark != null) { // not viewable
+                byTag.get((Long) row[1]).add(bookmark);
+            }
+        }
+        byTag.values().forEach(list -> list.sort(Comparator.comparing(BookmarkReference::getId)));
+        return byTag;
     }
 
     /**
      * Find most visited bookmarks
      * Returns only viewable bookmarks
      */
-    public List<Bookmark> findMostVisited(Integer limit) {
+    public List<? extends BookmarkReference> findMostVisited(Integer limit, Set<BookmarkColumn> columns) {
         int pageSize = limit != null ? limit : 10;
         log.debug("Finding most visited bookmarks (limit: {})", pageSize);
-        List<Bookmark> bookmarks = bookmarkRepository.findMostVisited(PageRequest.of(0, pageSize));
-        return filterViewableBookmarks(bookmarks);
+        return list(viewable(), Sort.by(Sort.Direction.DESC, "visitCount"), pageSize, columns);
     }
 
     /**
      * Find recently visited bookmarks
      * Returns only viewable bookmarks
      */
-    public List<Bookmark> findRecentlyVisited(Integer limit) {
+    public List<? extends BookmarkReference> findRecentlyVisited(Integer limit, Set<BookmarkColumn> columns) {
         int pageSize = limit != null ? limit : 10;
         log.debug("Finding recently visited bookmarks (limit: {})", pageSize);
-        List<Bookmark> bookmarks = bookmarkRepository.findRecentlyVisited(PageRequest.of(0, pageSize));
-        return filterViewableBookmarks(bookmarks);
+        return list(viewable().and(BookmarkSpecifications.visited()),
+                Sort.by(Sort.Direction.DESC, "lastVisitedAt"), pageSize, columns);
     }
 
     /**
      * Find bookmarks with rating >= minRating
      * Returns only viewable bookmarks
      */
-    public List<Bookmark> findTopRated(Integer minRating) {
+    public List<? extends BookmarkReference> findTopRated(Integer minRating, Set<BookmarkColumn> columns) {
         log.debug("Finding top rated bookmarks (minRating: {})", minRating);
-        List<Bookmark> bookmarks = bookmarkRepository.findByRatingGreaterThanEqual(minRating);
-        return filterViewableBookmarks(bookmarks);
+        return list(viewable().and(BookmarkSpecifications.ratingAtLeast(minRating)), Sort.unsorted(), null, columns);
     }
 
     /**
@@ -154,23 +294,119 @@ public class BookmarkQueryService {
      *
      * @param first Number of items to fetch
      * @param after Cursor to start from (null for first page)
+     * @param sortBy Sort key (defaults to ID)
+     * @param direction Sort direction (defaults to ASC)
+     * @param includeTotalCount Whether totalCount was requested (served from counters in O(1))
      * @return BookmarkConnection with edges and pageInfo
      */
-    public BookmarkConnection findWithCursor(Integer first, String after) {
+    public BookmarkConnection findWithCursor(Integer first, String after,
+                                             BookmarkSortField sortBy, SortDirection direction,
+                                             boolean includeTotalCount) {
+        log.debug("Finding bookmarks with cursor (first: {}, after: {}, sortBy: {}, direction: {})",
+                first, after, sortBy, direction);
+        return findConnection(null,
+                sortBy != null ? sortBy : BookmarkSortField.ID,
+                direction != null ? direction : SortDirection.ASC,
+                first, after, includeTotalCount);
+    }
+
+    /**
+     * Cursor-paginated variant of {@link #findByCategory(Long, Set)}
+     */
+    public BookmarkConnection findByCategoryWithCursor(Long categoryId, Integer first, String after,
+                                                       boolean includeTotalCount) {
+        log.debug("Finding bookmarks by category with cursor: {} (first: {}, after: {})", categoryId, first, after);
+        return findConnection(BookmarkSpecifications.inCategory(categoryId),
+                BookmarkSortField.ID, SortDirection.ASC, first, after, includeTotalCount);
+    }
+
+    /**
+     * Cursor-paginated variant of {@link #searchByTitle(String, Set)}
+     */
+    public BookmarkConnection searchByTitleWithCursor(String query, Integer first, String after,
+                                                      boolean includeTotalCount) {
+        log.debug("Searching bookmarks by title with cursor: {} (first: {}, after: {})", query, first, after);
+        if (bitmapFilterReady()) {
+            return findBitmapConnection(textHits(query), first, after, includeTotalCount);
+        }
+        return findConnection(BookmarkSpecifications.titleOrDescriptionContains(query),
+                BookmarkSortField.ID, SortDirection.ASC, first, after, includeTotalCount);
+    }
+
+    /**
+     * Cursor-paginated variant of {@link #advancedSearch(BookmarkFilter, Set)}
+     */
+    public BookmarkConnection advancedSearchWithCursor(BookmarkFilter filter, Integer first, String after,
+                                                       boolean includeTotalCount) {
+        log.debug("Advanced search with cursor: {} (first: {}, after: {})", filter, first, after);
+        if (bitmapFilterReady()) {
+            return findBitmapConnection(selectMatches(filter), first, after, includeTotalCount);
+        }
+        return findConnection(filterMatches(filter),
+                BookmarkSortField.ID, SortDirection.ASC, first, after, includeTotalCount);
+    }
+
+    /**
+     * Cursor-paginated variant of {@link #findFavorites(Set)}
+     */
+    public BookmarkConnection findFavoritesWithCursor(Integer first, String after,
+                                                      boolean includeTotalCount) {
+        log.debug("Finding favorite bookmarks with cursor (first: {}, after: {})", first, after);
+        return findConnection(BookmarkSpecifications.isFavorite(true),
+                BookmarkSortField.ID, SortDirection.ASC, first, after, includeTotalCount);
+    }
+
+    /**
+     * Cursor-paginated variant of {@link #findByTag(String, Set)}
+     */
+    public BookmarkConnection findByTagWithCursor(String tagName, Integer first, String after,
+                                                  boolean includeTotalCount) {
+        log.debug("Finding bookmarks by tag with cursor: {} (first: {}, after: {})", tagName, first, after);
+        return findConnection(BookmarkSpecifications.hasTagNamed(tagName),
+                BookmarkSortField.ID, SortDirection.ASC, first, after, includeTotalCount);
+    }
+
+    /**
+     * Cursor-paginated variant of {@link #findTopRated(Integer, Set)}
+     */
+    public BookmarkConnection findTopRatedWithCursor(Integer minRating, Integer first, String after,
+                                                     boolean includeTotalCount) {
+        log.debug("Finding top rated bookmarks with cursor: {} (first: {}, after: {})", minRating, first, after);
+        return findConnection(BookmarkSpecifications.ratingAtLeast(minRating),
+                BookmarkSortField.ID, SortDirection.ASC, first, after, includeTotalCount);
+    }
+
+    /**
+     * Build a Relay connection over the viewable bookmarks matching the given criteria.
+     *
+     * Uses keyset (seek) pagination on the composite key (sort key, id): the cursor holds
+     * the last seen key and id, and the next page is fetched with
+     * "(key, id) > (:key, :id) ORDER BY key, id LIMIT n". Every page is served from the
+     * (sort key, id) index, so deep pages cost the same as the first page (no OFFSET scan).
+     *
+     * @param criteria filter on top of visibility (null for all viewable bookmarks)
+     * @param includeTotalCount totalCount is only computed when the client selected it
+     */
+    private BookmarkConnection findConnection(Specification<Bookmark> criteria,
+                                              BookmarkSortField sortBy, SortDirection direction,
+                                              Integer first, String after, boolean includeTotalCount) {
         int limit = first != null ? first : 20; // Default 20 items
         limit = Math.min(limit, 100); // Max 100 items per page
 
-        log.debug("Finding bookmarks with cursor (first: {}, after: {})", limit, after);
+        boolean descending = direction == SortDirection.DESC;
+        Specification<Bookmark> spec = viewable().and(criteria);
 
-        // Decode cursor to get the ID
-        Long afterId = after != null ? decodeCursor(after) : 0L;
-
-        // Fetch limit + 1 to check if there's a next page
-        PageRequest pageRequest = PageRequest.of(0, limit + 1);
-        List<Bookmark> bookmarks = bookmarkRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageRequest);
+        // Seek past the cursor position
+        Specification<Bookmark> pageSpec = spec;
+        if (after != null) {
+            BookmarkCursor cursor = BookmarkCursor.decode(after, sortBy, direction);
+            pageSpec = spec.and(BookmarkSpecifications.after(
+                    sortBy.getProperty(), descending, cursor.getKey(), cursor.getId()));
+        }
 
-        // Filter viewable bookmarks
-        bookmarks = filterViewableBookmarks(bookmarks);
+        // Fetch limit + 1 to check if there's a next page (visibility is applied in SQL,
+        // so the page is never short)
+        List<Bookmark> bookmarks = bookmarkRepository.findPage(pageSpec, sortBy.getProperty(), descending, limit + 1);
 
         // Check if there's a next page
         boolean hasNextPage = bookmarks.size() > limit;
@@ -178,10 +414,49 @@ public class BookmarkQueryService {
             bookmarks = bookmarks.subList(0, limit); // Remove the extra item
         }
 
+        // Total count of viewable matches (for UI to show total items), only when selected
+        Integer totalCount = includeTotalCount ? (int) countViewable(criteria, spec) : null;
+
+        return toConnection(bookmarks, hasNextPage, after, sortBy, direction, totalCount);
+    }
+
+    /**
+     * Relay connection over a precomputed set of matching ids (bitmap filter index), in id order.
+     *
+     * The cursor position is found by advancing the bitmap iterator, only the ids of the
+     * requested page are loaded from the database, and totalCount is the bitmap cardinality.
+     */
+    private BookmarkConnection findBitmapConnection(RoaringBitmap matches, Integer first, String after,
+                                                    boolean includeTotalCount) {
+        int limit = first != null ? first : 20; // Default 20 items
+        limit = Math.min(limit, 100); // Max 100 items per page
+
+        PeekableIntIterator iterator = matches.getIntIterator();
+        if (after != null) {
+            long afterId = BookmarkCursor.decode(after, BookmarkSortField.ID, SortDirection.ASC).getId();
+            if (afterId >= Integer.MAX_VALUE) {
+                iterator = new RoaringBitmap().getIntIterator();
+            } else {
+                iterator.advanceIfNeeded((int) Math.max(afterId + 1, 0));
+            }
+        }
+
+        // Take limit + 1 ids to check if there's a next page
+        int[] pageIds = take(iterator, limit + 1);
+        boolean hasNextPage = pageIds.length > limit;
+        List<Bookmark> bookmarks = loadByIds(Arrays.copyOf(pageIds, Math.min(pageIds.length, limit)));
+
+        Integer totalCount = includeTotalCount ? matches.getCardinality() : null;
+        return toConnection(bookmarks, hasNextPage, after, BookmarkSortField.ID, SortDirection.ASC, totalCount);
+    }
+
+    private BookmarkConnection toConnection(List<Bookmark> bookmarks, boolean hasNextPage, String after,
+                                            BookmarkSortField sortBy, SortDirection direction,
+                                            Integer totalCount) {
         // Build edges
         List<BookmarkEdge> edges = new ArrayList<>();
         for (Bookmark bookmark : bookmarks) {
-            String cursor = encodeCursor(bookmark.getId());
+            String cursor = BookmarkCursor.of(bookmark, sortBy, direction).encode();
             edges.add(new BookmarkEdge(bookmark, cursor));
         }
 
@@ -190,52 +465,139 @@ public class BookmarkQueryService {
         String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
         PageInfo pageInfo = new PageInfo(hasNextPage, after != null, startCursor, endCursor);
 
-        // Get total count (for UI to show total items)
-        int totalCount = (int) bookmarkRepository.count();
-
         return new BookmarkConnection(edges, pageInfo, totalCount);
     }
 
     /**
-     * Encode ID to cursor (Base64)
+     * Count viewable matches.
+     * Unfiltered counts come from the incrementally maintained counters (O(1));
+     * filtered counts still need a COUNT query.
+     */
+    private long countViewable(Specification<Bookmark> criteria, Specification<Bookmark> spec) {
+        if (criteria == null && countService.isReady()) {
+            return countService.visibleCount(securityService.getCurrentUserId(), securityService.isAdmin());
+        }
+        return bookmarkRepository.count(spec);
+    }
+
+    /**
+     * Advanced search criteria in SQL, used while the indexes are still being built at startup
+     * (the text part falls back to LIKE)
+     */
+    private Specification<Bookmark> filterMatches(BookmarkFilter filter) {
+        Specification<Bookmark> spec = BookmarkSpecifications.matching(filter);
+        return filter.getQuery() != null
+                ? spec.and(BookmarkSpecifications.titleOrDescriptionContains(filter.getQuery()))
+                : spec;
+    }
+
+    /**
+     * Visible full-text hits from the search index. The hit ids never go to SQL as a whole:
+     * callers page over the bitmap and load only the ids of one page.
+     */
+    private RoaringBitmap textHits(String query) {
+        BookmarkFilter filter = new BookmarkFilter();
+        filter.setQuery(query);
+        return selectMatches(filter);
+    }
+
+    /**
+     * Structured criteria from the bitmap filter index, intersected with the full-text hits
+     * (visibility included). A query without searchable terms (e.g. only punctuation) matches nothing.
+     */
+    private RoaringBitmap selectMatches(BookmarkFilter filter) {
+        if (filter.getQuery() == null) {
+            return filterIndex.select(filter, securityService.getCurrentUserId(), securityService.isAdmin());
+        }
+        long[] ids = searchIndex.search(filter.getQuery());
+        if (ids == null || ids.length == 0) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap matches = filterIndex.select(filter,
+                securityService.getCurrentUserId(), securityService.isAdmin());
+        matches.and(RoaringBitmap.bitmapOf(Arrays.stream(ids).mapToInt(BookmarkFilterIndex::bitmapId).toArray()));
+        return matches;
+    }
+
+    private boolean bitmapFilterReady() {
+        return filterIndex.isReady() && searchIndex.isReady();
+    }
+
+    /**
+     * List form over a precomputed set of matching ids: only the first maxListResults
+     * matches (in id order) are loaded
+     */
+    private List<? extends BookmarkReference> listMatches(RoaringBitmap matches, Set<BookmarkColumn> columns) {
+        int[] ids = take(matches.getIntIterator(), maxListResults);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        if (matches.getCardinality() > ids.length) {
+            log.debug("Listing the first {} of {} matches", ids.length, matches.getCardinality());
+        }
+        return list(viewable().and(BookmarkSpecifications.idIn(Arrays.stream(ids).asLongStream().toArray())),
+                Sort.by("id"), null, columns);
+    }
+
+    /**
+     * Up to max ids from the iterator
+     */
+    private static int[] take(IntIterator iterator, int max) {
+        int[] ids = new int[max];
+        int count = 0;
+        while (count < max && iterator.hasNext()) {
+            ids[count++] = iterator.next();
+        }
+        return count < max ? Arrays.copyOf(ids, count) : ids;
+    }
+
+    /**
+     * The matching bookmarks as entities, or - when the caller passes the requested columns
+     * and projections are enabled - as views holding only those columns
      */
-    private String encodeCursor(Long id) {
-        String cursorString = "bookmark:" + id;
-        return Base64.getEncoder().encodeToString(cursorString.getBytes(StandardCharsets.UTF_8));
+    private List<? extends BookmarkReference> list(Specification<Bookmark> spec, Sort sort, Integer limit,
+                                                   Set<BookmarkColumn> columns) {
+        if (columns == null || !projectionsEnabled) {
+            return limit != null ? bookmarkRepository.findTop(spec, sort, limit) : bookmarkRepository.findAll(spec, sort);
+        }
+        return bookmarkRepository.findViews(spec, sort, columns, limit);
     }
 
     /**
-     * Decode cursor to ID
+     * Load the given bookmarks in id order. Visibility is applied again in SQL,
+     * in case a bookmark changed after the index was read.
      */
-    private Long decodeCursor(String cursor) {
-        try {
-            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-            return Long.parseLong(decoded.split(":")[1]);
-        } catch (Exception e) {
-            log.error("Failed to decode cursor: {}", cursor, e);
-            throw new IllegalArgumentException("Invalid cursor format");
+    private List<Bookmark> loadByIds(int[] ids) {
+        if (ids.length == 0) {
+            return List.of();
         }
+        long[] bookmarkIds = Arrays.stream(ids).asLongStream().toArray();
+        return bookmarkRepository.findAll(viewable().and(BookmarkSpecifications.idIn(bookmarkIds)), Sort.by("id"));
+    }
+
+    private static Map<Long, List<BookmarkReference>> emptyLists(Collection<Long> keys) {
+        Map<Long, List<BookmarkReference>> lists = new HashMap<>();
+        keys.forEach(key -> lists.put(key, new ArrayList<>()));
+        return lists;
     }
 
     /**
-     * Filter bookmarks to only include viewable ones
-     * (public bookmarks or owned by current user)
+     * The requested columns plus one the caller needs itself (null stays null: entities)
      */
-    private List<Bookmark> filterViewableBookmarks(List<Bookmark> bookmarks) {
-        User currentUser = securityService.getCurrentUser();
+    private static Set<BookmarkColumn> withColumn(Set<BookmarkColumn> columns, BookmarkColumn column) {
+        if (columns == null) {
+            return null;
+        }
+        Set<BookmarkColumn> extended = EnumSet.copyOf(columns);
+        extended.add(column);
+        return extended;
+    }
 
-        return bookmarks.stream()
-                .filter(bookmark -> {
-                    // Public bookmarks are viewable by everyone
-                    if (Boolean.TRUE.equals(bookmark.getIsPublic())) {
-                        return true;
-                    }
-                    // Private bookmarks only viewable by owner
-                    if (currentUser != null && bookmark.getUser() != null) {
-                        return bookmark.getUser().getId().equals(currentUser.getId());
-                    }
-                    return false;
-                })
-                .collect(Collectors.toList());
+    /**
+     * Visibility predicate for the current user
+     * (public bookmarks, bookmarks owned by current user, or everything for admins)
+     */
+    private Specification<Bookmark> viewable() {
+        return BookmarkSpecifications.viewableBy(securityService.getCurrentUserId(), securityService.isAdmin());
     }
 }
@@ -1,74 +1,151 @@
 package com.example.bookmark.service;
 
+import com.example.bookmark.config.CachePolicies;
 import com.example.bookmark.dto.BookmarkStatistics;
 import com.example.bookmark.dto.CategoryStatistics;
+import com.example.bookmark.dto.CategoryView;
 import com.example.bookmark.repository.BookmarkRepository;
 import com.example.bookmark.repository.CategoryRepository;
 import com.example.bookmark.repository.TagRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for bookmark statistics and analytics.
  *
  * Single Responsibility: Only handles statistical calculations.
- * Benefits:
- * - Can be cached heavily (statistics change slowly)
- * - Easy to add new metrics
- * - Can be moved to separate read database
- * - Performance optimization in isolation
+ *
+ * Statistics are served from the incrementally maintained {@link BookmarkStatisticsStore}
+ * (category and tag counts from the {@link CategoryTagDictionary}), so a read costs no query
+ * and always includes the latest committed change.
+ *
+ * Until the store has been seeded on startup the aggregate queries are used instead. They go
+ * through async loading caches so that concurrent requests never run them together:
+ * <ul>
+ *   <li>single flight - the first miss starts one computation, concurrent callers share its future</li>
+ *   <li>refresh ahead - once an entry is older than its refreshAfterWrite (cache policy), the next
+ *       read returns it immediately and triggers one background recomputation on the async executor</li>
+ * </ul>
  */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class BookmarkStatisticsService {
 
+    // Each cache holds a single entry
+    private static final String ALL = "all";
+
     private final BookmarkRepository bookmarkRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
+    private final BookmarkStatisticsStore statisticsStore;
+    private final CategoryTagDictionary dictionary;
+    // The aggregate queries of one computation read a single consistent snapshot
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AsyncLoadingCache<String, BookmarkStatistics> overallStatistics;
+    private final AsyncLoadingCache<String, List<CategoryStatistics>> categoryStatistics;
+
+    public BookmarkStatisticsService(BookmarkRepository bookmarkRepository,
+                                     CategoryRepository categoryRepository,
+                                     TagRepository tagRepository,
+                                     BookmarkStatisticsStore statisticsStore,
+                                     CategoryTagDictionary dictionary,
+                                     ThreadPoolTaskExecutor asyncExecutor,
+                                     PlatformTransactionManager transactionManager,
+                                     CachePolicies cachePolicies,
+                                     CaffeineCacheManager cacheManager) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.statisticsStore = statisticsStore;
+        this.dictionary = dictionary;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // Policies (refreshAfterWrite, size) come from CacheConfig
+        this.overallStatistics = cachePolicies.builder("overallStatistics")
+                .executor(asyncExecutor)
+                .buildAsync(key -> queryOverallStatistics());
+        this.categoryStatistics = cachePolicies.builder("categoryStatistics")
+                .executor(asyncExecutor)
+                .buildAsync(key -> queryCategoryStatistics());
+
+        // Registered so the caches are visible (and reported) like every other cache
+        cacheManager.registerCustomCache("overallStatistics", untyped(overallStatistics));
+        cacheManager.registerCustomCache("categoryStatistics", untyped(categoryStatistics));
+    }
 
     /**
      * Get overall bookmark statistics
-     *
-     * Cached for 5 minutes to avoid expensive count queries.
      */
-    @Cacheable(value = "overallStatistics")
     public BookmarkStatistics getOverallStatistics() {
-        log.debug("Calculating overall bookmark statistics");
-
-        Long totalBookmarks = bookmarkRepository.count();
-        Long totalFavorites = bookmarkRepository.countFavorites();
-        Long totalVisits = bookmarkRepository.getTotalVisits();
-        Double averageRating = bookmarkRepository.getAverageRating();
-        Long totalCategories = categoryRepository.count();
-        Long totalTags = tagRepository.count();
-
+        if (!statisticsStore.isReady()) {
+            return overallStatistics.get(ALL).join();
+        }
+        BookmarkStatisticsStore.Snapshot snapshot = statisticsStore.snapshot();
         return new BookmarkStatistics(
-                totalBookmarks,
-                totalFavorites,
-                totalVisits,
-                averageRating,
-                totalCategories,
-                totalTags
+                snapshot.totalBookmarks(),
+                snapshot.totalFavorites(),
+                snapshot.totalVisits(),
+                snapshot.averageRating(),
+                (long) dictionary.categories().size(),
+                (long) dictionary.tags().size()
         );
     }
 
     /**
-     * Get statistics per category.
-     * Optimized to use single JPQL query instead of N+1 queries.
-     *
-     * Cached for 5 minutes to avoid expensive aggregation queries.
+     * Get statistics per category (every category, ordered by name)
      */
-    @Cacheable(value = "categoryStatistics")
     public List<CategoryStatistics> getCategoryStatistics() {
-        log.debug("Calculating category statistics (optimized)");
+        if (!statisticsStore.isReady()) {
+            return categoryStatistics.get(ALL).join();
+        }
+        BookmarkStatisticsStore.Snapshot snapshot = statisticsStore.snapshot();
+        return dictionary.categories().stream()
+                .sorted(Comparator.comparing(CategoryView::getName))
+                .map(category -> new CategoryStatistics(category.getId(), category.getName(),
+                        snapshot.countByCategory().getOrDefault(category.getId(), 0L)))
+                .toList();
+    }
+
+    private BookmarkStatistics queryOverallStatistics() {
+        log.debug("Statistics store not ready, calculating overall bookmark statistics");
+
+        return readOnlyTransaction.execute(status -> {
+            Long totalBookmarks = bookmarkRepository.count();
+            Long totalFavorites = bookmarkRepository.countFavorites();
+            Long totalVisits = bookmarkRepository.getTotalVisits();
+            Double averageRating = bookmarkRepository.getAverageRating();
+            Long totalCategories = categoryRepository.count();
+            Long totalTags = tagRepository.count();
+
+            return new BookmarkStatistics(
+                    totalBookmarks,
+                    totalFavorites,
+                    totalVisits,
+                    averageRating,
+                    totalCategories,
+                    totalTags
+            );
+        });
+    }
+
+    private List<CategoryStatistics> queryCategoryStatistics() {
+        log.debug("Statistics store not ready, calculating category statistics");
         return bookmarkRepository.getCategoryStatistics();
     }
+
+    @SuppressWarnings("unchecked")
+    private static AsyncCache<Object, Object> untyped(AsyncCache<?, ?> cache) {
+        return (AsyncCache<Object, Object>) cache;
+    }
 }
@@ -0,0 +1,229 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.event.domain.BookmarkChange;
+import com.example.bookmark.event.domain.BookmarkState;
+import com.example.bookmark.repository.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Incrementally maintained bookmark statistics (totals, favorites, visits, rating, per category).
+ *
+ * Like {@link BookmarkCountService}, the values are seeded from the database once on startup
+ * and then adjusted by StatisticsEventListener from the {@link BookmarkChange} (state before
+ * and after) carried by the bookmark domain events, so reading the statistics never runs an
+ * aggregate query.
+ *
+ * A periodic reconciliation re-reads the aggregates to repair drift (writes that bypass the
+ * events, such as DataInitializer or manual SQL). The aggregate queries run outside the lock,
+ * so a single comparison also sees transient differences: a transaction the queries already
+ * saw whose AFTER_COMMIT delta has not been applied yet, or the other way round. Those are
+ * gone by the next run, while real drift stays. So only the drift seen by two consecutive
+ * runs is repaired (per value, the part both runs agree on), as a correction added to the
+ * maintained values rather than by overwriting them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkStatisticsStore {
+
+    /**
+     * Consistent copy of the statistics
+     */
+    public record Snapshot(long totalBookmarks, long totalFavorites, long totalVisits,
+                           long ratingSum, long ratedBookmarks, Map<Long, Long> countByCategory) {
+
+        public double averageRating() {
+            return ratedBookmarks == 0 ? 0.0 : (double) ratingSum / ratedBookmarks;
+        }
+    }
+
+    private final BookmarkRepository bookmarkRepository;
+
+    // Guarded by this
+    private long totalBookmarks;
+    private long totalFavorites;
+    private long totalVisits;
+    private long ratingSum;
+    private long ratedBookmarks;
+    private final Map<Long, Long> countByCategory = new HashMap<>();
+    // Database minus maintained values seen by the previous reconciliation (null: none)
+    private Snapshot previousDrift;
+
+    private volatile boolean ready;
+
+    /**
+     * Seed from the database (runs after DataInitializer, which is a CommandLineRunner)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Recompute the statistics from the database: seed them on the first run, afterwards
+     * repair the drift seen by this and the previous run
+     */
+    @Scheduled(initialDelayString = "${statistics.reconcile-interval-ms:600000}",
+            fixedDelayString = "${statistics.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Object[] totals = bookmarkRepository.getStatisticsTotals().get(0);
+        Map<Long, Long> categories = new HashMap<>();
+        for (Object[] row : bookmarkRepository.countByCategoryGrouped()) {
+            categories.put((Long) row[0], (Long) row[1]);
+        }
+        Snapshot fresh = new Snapshot(number(totals[0]), number(totals[1]), number(totals[2]),
+                number(totals[3]), number(totals[4]), categories);
+
+        synchronized (this) {
+            if (ready) {
+                repair(fresh);
+                return;
+            }
+            totalBookmarks = fresh.totalBookmarks();
+            totalFavorites = fresh.totalFavorites();
+            totalVisits = fresh.totalVisits();
+            ratingSum = fresh.ratingSum();
+            ratedBookmarks = fresh.ratedBookmarks();
+            countByCategory.clear();
+            countByCategory.putAll(categories);
+            ready = true;
+            log.info("Bookmark statistics initialized: total={}, favorites={}, visits={}, categories with bookmarks={}",
+                    fresh.totalBookmarks(), fresh.totalFavorites(), fresh.totalVisits(), categories.size());
+        }
+    }
+
+    /**
+     * @return false until the statistics have been seeded
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(totalBookmarks, totalFavorites, totalVisits, ratingSum, ratedBookmarks,
+                Map.copyOf(countByCategory));
+    }
+
+    /**
+     * Subtract the state before the change and add the state after it
+     * (creation and deletion have only one side)
+     */
+    public synchronized void apply(BookmarkChange change) {
+        if (change.before() != null && change.after() != null && change.before().equals(change.after())) {
+            return;
+        }
+        if (change.before() != null) {
+            add(change.before(), -1);
+        }
+        if (change.after() != null) {
+            add(change.after(), 1);
+        }
+    }
+
+    public synchronized void onVisits(long visits) {
+        totalVisits += visits;
+    }
+
+    /**
+     * Correct the part of the drift that the previous run saw as well; the rest is
+     * remembered for the next run (guarded by this)
+     */
+    private void repair(Snapshot fresh) {
+        Snapshot drift = difference(fresh, snapshot());
+        if (previousDrift != null) {
+            Snapshot persistent = common(previousDrift, drift);
+            if (!isZero(persistent)) {
+                log.warn("Statistics drift repaired: {}", persistent);
+                totalBookmarks += persistent.totalBookmarks();
+                totalFavorites += persistent.totalFavorites();
+                totalVisits += persistent.totalVisits();
+                ratingSum += persistent.ratingSum();
+                ratedBookmarks += persistent.ratedBookmarks();
+                persistent.countByCategory().forEach((categoryId, count) ->
+                        countByCategory.merge(categoryId, count, (a, b) -> a + b == 0 ? null : a + b));
+                drift = difference(drift, persistent);
+            }
+        }
+        previousDrift = isZero(drift) ? null : drift;
+        if (previousDrift != null) {
+            log.debug("Statistics differ from the database, repairing if still seen on the next run: {}", drift);
+        }
+    }
+
+    /**
+     * a - b, value by value (categories absent on one side count as 0)
+     */
+    static Snapshot difference(Snapshot a, Snapshot b) {
+        Map<Long, Long> categories = new HashMap<>(a.countByCategory());
+        b.countByCategory().forEach((categoryId, count) ->
+                categories.merge(categoryId, -count, (x, y) -> x + y == 0 ? null : x + y));
+        return new Snapshot(a.totalBookmarks() - b.totalBookmarks(), a.totalFavorites() - b.totalFavorites(),
+                a.totalVisits() - b.totalVisits(), a.ratingSum() - b.ratingSum(),
+                a.ratedBookmarks() - b.ratedBookmarks(), categories);
+    }
+
+    /**
+     * The part of two drifts they agree on: per value, the smaller magnitude if both
+     * have the same sign, otherwise 0
+     */
+    static Snapshot common(Snapshot a, Snapshot b) {
+        Map<Long, Long> categories = new HashMap<>();
+        a.countByCategory().forEach((categoryId, count) -> {
+            long agreed = common(count, b.countByCategory().getOrDefault(categoryId, 0L));
+            if (agreed != 0) {
+                categories.put(categoryId, agreed);
+            }
+        });
+        return new Snapshot(common(a.totalBookmarks(), b.totalBookmarks()),
+                common(a.totalFavorites(), b.totalFavorites()), common(a.totalVisits(), b.totalVisits()),
+                common(a.ratingSum(), b.ratingSum()), common(a.ratedBookmarks(), b.ratedBookmarks()), categories);
+    }
+
+    private static long common(long a, long b) {
+        if (a > 0 && b > 0) {
+            return Math.min(a, b);
+        }
+        if (a < 0 && b < 0) {
+            return Math.max(a, b);
+        }
+        return 0;
+    }
+
+    private static boolean isZero(Snapshot drift) {
+        return drift.totalBookmarks() == 0 && drift.totalFavorites() == 0 && drift.totalVisits() == 0
+                && drift.ratingSum() == 0 && drift.ratedBookmarks() == 0 && drift.countByCategory().isEmpty();
+    }
+
+    private void add(BookmarkState state, int sign) {
+        totalBookmarks += sign;
+        totalFavorites += sign * favorite(state.isFavorite());
+        totalVisits += sign * (state.visitCount() != null ? state.visitCount() : 0);
+        addRating(state.rating(), sign);
+        if (state.categoryId() != null) {
+            countByCategory.merge(state.categoryId(), (long) sign, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+
+    private void addRating(Integer rating, int sign) {
+        if (rating != null) {
+            ratingSum += sign * rating;
+            ratedBookmarks += sign;
+        }
+    }
+
+    private static long favorite(Boolean isFavorite) {
+        return Boolean.TRUE.equals(isFavorite) ? 1 : 0;
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+}
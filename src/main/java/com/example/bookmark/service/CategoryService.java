@@ -1,11 +1,14 @@
 package com.example.bookmark.service;
 
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.event.domain.BookmarkDeletedEvent;
 import com.example.bookmark.exception.DuplicateResourceException;
 import com.example.bookmark.exception.ResourceNotFoundException;
 import com.example.bookmark.model.Category;
 import com.example.bookmark.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,21 +27,25 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher domainEventPublisher;
+    private final CategoryTagDictionary dictionary;
 
-    public List<Category> findAll() {
+    // Reads are served lock-free from the in-memory dictionary (no query)
+
+    public List<CategoryView> findAll() {
         log.debug("Finding all categories");
-        return categoryRepository.findAll();
+        return dictionary.categories();
     }
 
-    public Category findById(Long id) {
+    public CategoryView findById(Long id) {
         log.debug("Finding category by id: {}", id);
-        return categoryRepository.findById(id)
+        return dictionary.category(id)
                 .orElseThrow(() -> ResourceNotFoundException.category(id));
     }
 
-    public Category findByName(String name) {
+    public CategoryView findByName(String name) {
         log.debug("Finding category by name: {}", name);
-        return categoryRepository.findByName(name)
+        return dictionary.categoryNamed(name)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         com.example.bookmark.exception.ErrorCode.CATEGORY_NOT_FOUND,
                         "Category not found with name: " + name
@@ -46,10 +53,10 @@ public class CategoryService {
     }
 
     @Transactional
-    public Category create(String name, String description) {
+    public CategoryView create(String name, String description) {
         log.info("Creating category with name: {}", name);
 
-        if (categoryRepository.findByName(name).isPresent()) {
+        if (dictionary.categoryNamed(name).isPresent()) {
             throw DuplicateResourceException.category(name);
         }
 
@@ -57,18 +64,19 @@ public class CategoryService {
         Category saved = categoryRepository.save(category);
 
         log.info("Created category with id: {}", saved.getId());
-        return saved;
+        dictionary.reloadAfterCommit();
+        return CategoryView.from(saved);
     }
 
     @Transactional
-    public Category update(Long id, String name, String description) {
+    public CategoryView update(Long id, String name, String description) {
         log.info("Updating category id: {}", id);
 
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.category(id));
 
         if (name != null) {
-            if (categoryRepository.findByName(name).isPresent() && !category.getName().equals(name)) {
+            if (dictionary.categoryNamed(name).filter(existing -> !existing.getId().equals(id)).isPresent()) {
                 throw DuplicateResourceException.category(name);
             }
             category.setName(name);
@@ -79,19 +87,25 @@ public class CategoryService {
 
         Category updated = categoryRepository.save(category);
         log.info("Updated category id: {}", id);
-        return updated;
+        dictionary.reloadAfterCommit();
+        return CategoryView.from(updated);
     }
 
     @Transactional
     public boolean delete(Long id) {
         log.info("Deleting category id: {}", id);
 
-        if (!categoryRepository.existsById(id)) {
-            throw ResourceNotFoundException.category(id);
-        }
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.category(id));
+
+        // Bookmarks are removed by cascade - announce each one so that
+        // incrementally maintained state (counters, statistics) stays in sync
+        category.getBookmarks().forEach(bookmark ->
+                domainEventPublisher.publishEvent(new BookmarkDeletedEvent(this, bookmark)));
 
-        categoryRepository.deleteById(id);
+        categoryRepository.delete(category);
         log.info("Deleted category id: {}", id);
+        dictionary.reloadAfterCommit();
         return true;
     }
 }
@@ -0,0 +1,139 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.dto.CategoryView;
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.repository.CategoryRepository;
+import com.example.bookmark.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Copy-on-write dictionary of all categories and tags.
+ *
+ * Both tables are small, hot and rarely written, so readers get an immutable snapshot
+ * (id -> view, lowercased name -> id) through a single volatile read - no lock, no query.
+ * Every category/tag mutation asks for a reload once its transaction has committed: the
+ * new snapshot is built from the committed rows and swapped in as a whole, so readers
+ * never see a half-applied change. Reloads are serialized, the last one always reflects
+ * the latest commit.
+ *
+ * Names are compared case-insensitively (lowercased with {@link Locale#ROOT}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTagDictionary {
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(List<CategoryView> categoryList, Map<Long, CategoryView> categories,
+                            Map<String, Long> categoryIdsByName,
+                            List<TagView> tagList, Map<Long, TagView> tags,
+                            Map<String, Long> tagIdsByName) {
+    }
+
+    public List<CategoryView> categories() {
+        return snapshot().categoryList();
+    }
+
+    public Optional<CategoryView> category(Long id) {
+        return Optional.ofNullable(snapshot().categories().get(id));
+    }
+
+    public Optional<CategoryView> categoryNamed(String name) {
+        Snapshot current = snapshot();
+        return Optional.ofNullable(current.categoryIdsByName().get(normalize(name)))
+                .map(current.categories()::get);
+    }
+
+    public List<TagView> tags() {
+        return snapshot().tagList();
+    }
+
+    public Optional<TagView> tag(Long id) {
+        return Optional.ofNullable(snapshot().tags().get(id));
+    }
+
+    public Optional<TagView> tagNamed(String name) {
+        Snapshot current = snapshot();
+        return Optional.ofNullable(current.tagIdsByName().get(normalize(name)))
+                .map(current.tags()::get);
+    }
+
+    /**
+     * Rebuild the snapshot once the current transaction commits (immediately without one)
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    /**
+     * Build a new snapshot from the database and publish it (startup and after mutations)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        List<CategoryView> categoryList = categoryRepository.findAll().stream()
+                .map(CategoryView::from)
+                .sorted(Comparator.comparing(CategoryView::getId))
+                .toList();
+        List<TagView> tagList = tagRepository.findAll().stream()
+                .map(TagView::from)
+                .sorted(Comparator.comparing(TagView::getId))
+                .toList();
+
+        Map<Long, CategoryView> categories = new HashMap<>();
+        Map<String, Long> categoryIdsByName = new HashMap<>();
+        for (CategoryView category : categoryList) {
+            categories.put(category.getId(), category);
+            categoryIdsByName.putIfAbsent(normalize(category.getName()), category.getId());
+        }
+        Map<Long, TagView> tags = new HashMap<>();
+        Map<String, Long> tagIdsByName = new HashMap<>();
+        for (TagView tag : tagList) {
+            tags.put(tag.getId(), tag);
+            tagIdsByName.putIfAbsent(normalize(tag.getName()), tag.getId());
+        }
+
+        snapshot = new Snapshot(categoryList, Map.copyOf(categories), Map.copyOf(categoryIdsByName),
+                tagList, Map.copyOf(tags), Map.copyOf(tagIdsByName));
+        log.debug("Category/tag dictionary reloaded: {} categories, {} tags", categoryList.size(), tagList.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // First use before the application is ready
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.bookmark.service;
+
+import org.jsoup.parser.Parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Pull parser for Netscape bookmark files (the bookmarks.html exported by every browser).
+ *
+ * The format is tag soup rather than HTML: unclosed {@code <DT>}/{@code <DD>}/{@code <p>},
+ * folders as {@code <DT><H3>name</H3><DL>...</DL>}, links as {@code <DT><A HREF=...>title</A>}
+ * optionally followed by {@code <DD>description}. Instead of building a DOM, the parser reads
+ * the stream one tag at a time and only keeps the folder stack and the link being read, so
+ * memory does not grow with the file. {@link #next()} returns one bookmark per call.
+ *
+ * The innermost named folder of a link is reported as its folder; TAGS (Firefox, Pinboard,
+ * Delicious exports) are split on commas. Entities are decoded, whitespace is collapsed.
+ */
+public class NetscapeBookmarkParser {
+
+    /**
+     * One link of the file
+     * @param folder innermost folder name, null for links at the top level
+     * @param addDate ADD_DATE (epoch seconds, milliseconds or microseconds), null if absent or invalid
+     */
+    public record Entry(String title, String url, String description, String folder,
+                        List<String> tags, LocalDateTime addDate) {
+    }
+
+    // Longest text kept for a title/description/folder name - the rest is dropped while reading
+    private static final int MAX_TEXT = 4096;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Reader reader;
+
+    // Folder of each open <DL> list ("" at the top level)
+    private final Deque<String> folders = new ArrayDeque<>();
+    private String pendingFolder;
+
+    private StringBuilder text;
+    private Capture capture = Capture.NONE;
+    private PendingLink link;
+    private boolean eof;
+
+    private enum Capture { NONE, FOLDER, TITLE, DESCRIPTION }
+
+    private static final class PendingLink {
+        String url;
+        String title;
+        String description;
+        String folder;
+        List<String> tags;
+        LocalDateTime addDate;
+    }
+
+    public NetscapeBookmarkParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The next link of the file, or null at the end
+     */
+    public Entry next() throws IOException {
+        while (!eof) {
+            int c = reader.read();
+            if (c == -1) {
+                eof = true;
+                return completeLink();
+            }
+            if (c != '<') {
+                appendText((char) c);
+                continue;
+            }
+            String tag = readTag();
+            if (tag == null) {
+                continue; // comment, doctype or end of input inside a tag
+            }
+            Entry completed = handleTag(tag);
+            if (completed != null) {
+                return completed;
+            }
+        }
+        return null;
+    }
+
+    private Entry handleTag(String tag) {
+        boolean closing = tag.startsWith("/");
+        String body = closing ? tag.substring(1) : tag;
+        String name = tagName(body);
+
+        // A <DD> description runs until the next structural tag
+        Entry completed = null;
+        if (!closing && name.equals("dd")) {
+            if (link != null) {
+                startCapture(Capture.DESCRIPTION);
+            }
+            return null;
+        }
+        boolean structural = closing
+                ? name.equals("dl")
+                : name.equals("dt") || name.equals("dl") || name.equals("h3") || name.equals("a");
+        if (structural) {
+            completed = completeLink();
+        }
+
+        switch (name) {
+            case "h3" -> {
+                if (closing) {
+                    pendingFolder = endCapture(Capture.FOLDER);
+                } else {
+                    startCapture(Capture.FOLDER);
+                }
+            }
+            case "dl" -> {
+                if (closing) {
+                    folders.pollFirst();
+                } else {
+                    // Lists without a heading keep the enclosing folder
+                    folders.push(pendingFolder != null ? pendingFolder : folders.isEmpty() ? "" : folders.peek());
+                    pendingFolder = null;
+                }
+            }
+            case "a" -> {
+                if (closing) {
+                    if (link != null) {
+                        link.title = endCapture(Capture.TITLE);
+                    }
+                } else {
+                    startLink(attributes(body));
+                }
+            }
+            default -> {
+                // p, hr, h1, title, meta ... carry nothing
+            }
+        }
+        return completed;
+    }
+
+    private void startLink(Map<String, String> attributes) {
+        String href = attributes.get("href");
+        if (href == null) {
+            return; // named anchor
+        }
+        link = new PendingLink();
+        link.url = href.trim();
+        link.folder = currentFolder();
+        link.tags = splitTags(attributes.get("tags"));
+        link.addDate = epochSeconds(attributes.get("add_date"));
+        startCapture(Capture.TITLE);
+    }
+
+    private Entry completeLink() {
+        if (link == null) {
+            return null;
+        }
+        if (capture == Capture.TITLE) {
+            link.title = endCapture(Capture.TITLE); // </A> missing
+        } else if (capture == Capture.DESCRIPTION) {
+            link.description = endCapture(Capture.DESCRIPTION);
+        }
+        Entry entry = new Entry(link.title, link.url, link.description, link.folder, link.tags, link.addDate);
+        link = null;
+        return entry;
+    }
+
+    private String currentFolder() {
+        String folder = folders.peek();
+        return folder == null || folder.isEmpty() ? null : folder;
+    }
+
+    // ========== Text ==========
+
+    private void startCapture(Capture target) {
+        capture = target;
+        text = new StringBuilder();
+    }
+
+    private String endCapture(Capture target) {
+        if (capture != target) {
+            return null;
+        }
+        String value = clean(text.toString());
+        capture = Capture.NONE;
+        text = null;
+        return value;
+    }
+
+    private void appendText(char c) {
+        if (capture != Capture.NONE && text.length() < MAX_TEXT) {
+            text.append(c);
+        }
+    }
+
+    private static String clean(String raw) {
+        String value = WHITESPACE.matcher(Parser.unescapeEntities(raw, false)).replaceAll(" ").trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // ========== Tags ==========
+
+    /**
+     * Read up to the closing '>' (quoted attribute values may contain '>')
+     * @return the tag without angle brackets, or null for comments/declarations
+     */
+    private String readTag() throws IOException {
+        StringBuilder tag = new StringBuilder();
+        char quote = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = (char) c;
+            } else if (c == '>') {
+                break;
+            }
+            tag.append((char) c);
+            if (tag.length() == 3 && tag.toString().equals("!--")) {
+                skipComment();
+                return null;
+            }
+        }
+        if (c == -1) {
+            eof = true;
+            return null;
+        }
+        if (tag.isEmpty() || tag.charAt(0) == '!' || tag.charAt(0) == '?') {
+            return null;
+        }
+        return tag.toString();
+    }
+
+    private void skipComment() throws IOException {
+        int dashes = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '>' && dashes >= 2) {
+                return;
+            }
+            dashes = c == '-' ? dashes + 1 : 0;
+        }
+        eof = true;
+    }
+
+    private static String tagName(String body) {
+        int end = 0;
+        while (end < body.length() && !Character.isWhitespace(body.charAt(end)) && body.charAt(end) != '/') {
+            end++;
+        }
+        return body.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Attributes of a start tag, names lowercased, values decoded
+     */
+    private static Map<String, String> attributes(String body) {
+        Map<String, String> attributes = new HashMap<>();
+        int i = tagName(body).length();
+        int length = body.length();
+        while (i < length) {
+            while (i < length && Character.isWhitespace(body.charAt(i))) i++;
+            int nameStart = i;
+            while (i < length && body.charAt(i) != '=' && !Character.isWhitespace(body.charAt(i))) i++;
+            String name = body.substring(nameStart, i).toLowerCase(Locale.ROOT);
+            while (i < length && Character.isWhitespace(body.charAt(i))) i++;
+            if (i >= length || body.charAt(i) != '=') {
+                if (!name.isEmpty()) attributes.put(name, "");
+                continue;
+            }
+            i++; // '='
+            while (i < length && Character.isWhitespace(body.charAt(i))) i++;
+            String value;
+            if (i < length && (body.charAt(i) == '"' || body.charAt(i) == '\'')) {
+                char quote = body.charAt(i++);
+                int end = body.indexOf(quote, i);
+                end = end < 0 ? length : end;
+                value = body.substring(i, end);
+                i = end + 1;
+            } else {
+                int valueStart = i;
+                while (i < length && !Character.isWhitespace(body.charAt(i))) i++;
+                value = body.substring(valueStart, i);
+            }
+            if (!name.isEmpty()) {
+                attributes.putIfAbsent(name, Parser.unescapeEntities(value, true));
+            }
+        }
+        return attributes;
+    }
+
+    private static List<String> splitTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static LocalDateTime epochSeconds(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long seconds = Long.parseLong(value.trim());
+            // Some exporters write milliseconds or microseconds
+            if (seconds > 100_000_000_000_000L) {
+                seconds /= 1_000_000;
+            } else if (seconds > 100_000_000_000L) {
+                seconds /= 1_000;
+            }
+            return seconds > 0 ? LocalDateTime.ofInstant(Instant.ofEpochSecond(seconds), ZoneId.systemDefault()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
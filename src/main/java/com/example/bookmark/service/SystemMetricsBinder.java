@@ -0,0 +1,51 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.event.BookmarkEventPublisher;
+import com.example.bookmark.event.ImportProgressPublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the metrics Spring Boot does not bind on its own to Micrometer:
+ * the import thread pool (it is not an Executor bean) and the subscriber counts
+ * of the GraphQL subscription sinks.
+ *
+ * Caches of the CacheManager (cache.*), the @Async pool (executor.* with
+ * name=asyncExecutor) and the HikariCP pool (hikaricp.*) are bound by the
+ * actuator auto-configuration.
+ */
+@Component
+@RequiredArgsConstructor
+public class SystemMetricsBinder implements MeterBinder {
+
+    private final SystemMetricsService metricsService;
+    private final BookmarkEventPublisher bookmarkEventPublisher;
+    private final ImportProgressPublisher importProgressPublisher;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(metricsService.importExecutor().getThreadPoolExecutor(),
+                SystemMetricsService.IMPORT_EXECUTOR, Tags.empty()).bindTo(registry);
+
+        Gauge.builder("graphql.subscription.subscribers", bookmarkEventPublisher,
+                        BookmarkEventPublisher::subscriberCount)
+                .tag("sink", SystemMetricsService.BOOKMARK_EVENTS)
+                .description("Active subscriptions of the sink")
+                .register(registry);
+        Gauge.builder("graphql.subscription.buffered", bookmarkEventPublisher,
+                        BookmarkEventPublisher::bufferedCount)
+                .tag("sink", SystemMetricsService.BOOKMARK_EVENTS)
+                .description("Events buffered for subscribers that have not requested them yet")
+                .register(registry);
+        Gauge.builder("graphql.subscription.subscribers", importProgressPublisher,
+                        ImportProgressPublisher::subscriberCount)
+                .tag("sink", SystemMetricsService.IMPORT_PROGRESS)
+                .description("Active subscriptions of the sink")
+                .register(registry);
+    }
+}
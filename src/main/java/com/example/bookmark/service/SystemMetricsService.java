@@ -0,0 +1,135 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.dto.CacheMetrics;
+import com.example.bookmark.dto.DatabasePoolMetrics;
+import com.example.bookmark.dto.ExecutorMetrics;
+import com.example.bookmark.dto.SubscriptionMetrics;
+import com.example.bookmark.dto.SystemMetrics;
+import com.example.bookmark.event.BookmarkEventPublisher;
+import com.example.bookmark.event.ImportProgressPublisher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Collects runtime metrics of the hot paths for the admin systemMetrics query:
+ * per-cache Caffeine statistics, the @Async and import thread pools, the GraphQL
+ * subscription sinks and the HikariCP connection pool.
+ *
+ * Everything is read from the live objects on each call; nothing is sampled or stored.
+ * The same sources are bound to Micrometer by {@link SystemMetricsBinder}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SystemMetricsService {
+
+    static final String ASYNC_EXECUTOR = "async";
+    static final String IMPORT_EXECUTOR = "import";
+    static final String BOOKMARK_EVENTS = "bookmarkEvents";
+    static final String IMPORT_PROGRESS = "importProgress";
+
+    private final CacheManager cacheManager;
+    private final ThreadPoolTaskExecutor asyncExecutor;
+    private final BookmarkImportService importService;
+    private final BookmarkEventPublisher bookmarkEventPublisher;
+    private final ImportProgressPublisher importProgressPublisher;
+    private final DataSource dataSource;
+
+    public SystemMetrics collect() {
+        return new SystemMetrics(
+                LocalDateTime.now(),
+                caches(),
+                List.of(executor(ASYNC_EXECUTOR, asyncExecutor()), executor(IMPORT_EXECUTOR, importExecutor())),
+                List.of(
+                        new SubscriptionMetrics(BOOKMARK_EVENTS, bookmarkEventPublisher.subscriberCount(),
+                                bookmarkEventPublisher.bufferedCount()),
+                        // Best-effort sink: nothing is buffered, slow subscribers drop intermediate progress
+                        new SubscriptionMetrics(IMPORT_PROGRESS, importProgressPublisher.subscriberCount(), 0)),
+                databasePool());
+    }
+
+    ThreadPoolTaskExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
+    ThreadPoolTaskExecutor importExecutor() {
+        return importService.importExecutor();
+    }
+
+    /**
+     * @return the Hikari pool, or null if the data source is not HikariCP
+     */
+    private HikariDataSource hikariDataSource() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private List<CacheMetrics> caches() {
+        List<CacheMetrics> caches = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+                caches.add(new CacheMetrics(
+                        name,
+                        nativeCache.estimatedSize(),
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.hitRate(),
+                        stats.evictionCount(),
+                        stats.evictionWeight(),
+                        stats.loadSuccessCount(),
+                        stats.loadFailureCount(),
+                        stats.averageLoadPenalty() / 1_000_000.0));
+            }
+        }
+        caches.sort(Comparator.comparing(CacheMetrics::getName));
+        return caches;
+    }
+
+    private static ExecutorMetrics executor(String name, ThreadPoolTaskExecutor executor) {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        return new ExecutorMetrics(
+                name,
+                pool.getActiveCount(),
+                pool.getPoolSize(),
+                pool.getCorePoolSize(),
+                pool.getMaximumPoolSize(),
+                pool.getQueue().size(),
+                pool.getQueue().remainingCapacity(),
+                pool.getCompletedTaskCount());
+    }
+
+    private DatabasePoolMetrics databasePool() {
+        HikariDataSource hikari = hikariDataSource();
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return null; // not HikariCP, or no connection requested yet
+        }
+        return new DatabasePoolMetrics(
+                hikari.getPoolName(),
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                hikari.getMaximumPoolSize(),
+                pool.getThreadsAwaitingConnection());
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.bookmark.service;
 
+import com.example.bookmark.dto.TagView;
+import com.example.bookmark.event.domain.TagChangedEvent;
 import com.example.bookmark.exception.DuplicateResourceException;
 import com.example.bookmark.exception.ResourceNotFoundException;
 import com.example.bookmark.model.Tag;
 import com.example.bookmark.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,21 +27,25 @@ import java.util.List;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher domainEventPublisher;
+    private final CategoryTagDictionary dictionary;
 
-    public List<Tag> findAll() {
+    // Reads are served lock-free from the in-memory dictionary (no query)
+
+    public List<TagView> findAll() {
         log.debug("Finding all tags");
-        return tagRepository.findAll();
+        return dictionary.tags();
     }
 
-    public Tag findById(Long id) {
+    public TagView findById(Long id) {
         log.debug("Finding tag by id: {}", id);
-        return tagRepository.findById(id)
+        return dictionary.tag(id)
                 .orElseThrow(() -> ResourceNotFoundException.tag(id));
     }
 
-    public Tag findByName(String name) {
+    public TagView findByName(String name) {
         log.debug("Finding tag by name: {}", name);
-        return tagRepository.findByName(name)
+        return dictionary.tagNamed(name)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         com.example.bookmark.exception.ErrorCode.TAG_NOT_FOUND,
                         "Tag not found with name: " + name
@@ -51,10 +58,10 @@ public class TagService {
     }
 
     @Transactional
-    public Tag create(String name, String color) {
+    public TagView create(String name, String color) {
         log.info("Creating tag with name: {}", name);
 
-        if (tagRepository.findByName(name).isPresent()) {
+        if (dictionary.tagNamed(name).isPresent()) {
             throw DuplicateResourceException.tag(name);
         }
 
@@ -62,20 +69,24 @@ public class TagService {
         Tag saved = tagRepository.save(tag);
 
         log.info("Created tag with id: {}", saved.getId());
-        return saved;
+        domainEventPublisher.publishEvent(new TagChangedEvent(this, saved.getId(), saved.getName(), false, List.of()));
+        dictionary.reloadAfterCommit();
+        return TagView.from(saved);
     }
 
     @Transactional
-    public Tag update(Long id, String name, String color) {
+    public TagView update(Long id, String name, String color) {
         log.info("Updating tag id: {}", id);
 
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.tag(id));
 
+        boolean renamed = false;
         if (name != null) {
-            if (tagRepository.findByName(name).isPresent() && !tag.getName().equals(name)) {
+            if (dictionary.tagNamed(name).filter(existing -> !existing.getId().equals(id)).isPresent()) {
                 throw DuplicateResourceException.tag(name);
             }
+            renamed = !tag.getName().equals(name);
             tag.setName(name);
         }
         if (color != null) {
@@ -84,19 +95,33 @@ public class TagService {
 
         Tag updated = tagRepository.save(tag);
         log.info("Updated tag id: {}", id);
-        return updated;
+
+        // Tag names are part of the bookmarks' searchable text and of the suggestions
+        if (renamed) {
+            domainEventPublisher.publishEvent(new TagChangedEvent(this, id, updated.getName(), false,
+                    tagRepository.findBookmarkIdsByTagId(id)));
+        }
+        dictionary.reloadAfterCommit();
+        return TagView.from(updated);
     }
 
     @Transactional
     public boolean delete(Long id) {
         log.info("Deleting tag id: {}", id);
 
-        if (!tagRepository.existsById(id)) {
-            throw ResourceNotFoundException.tag(id);
-        }
+        Tag tag = tagRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.tag(id));
 
-        tagRepository.deleteById(id);
+        // Bookmark is the owning side of bookmark_tags - unlink before deleting the tag
+        // (ids by projection and one bulk DELETE, no bookmark or tag collection is loaded)
+        List<Long> bookmarkIds = tagRepository.findBookmarkIdsByTagId(id);
+        tagRepository.unlinkBookmarks(id);
+
+        tagRepository.delete(tag);
         log.info("Deleted tag id: {}", id);
+
+        domainEventPublisher.publishEvent(new TagChangedEvent(this, id, tag.getName(), true, bookmarkIds));
+        dictionary.reloadAfterCommit();
         return true;
     }
 }
@@ -0,0 +1,180 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.event.domain.VisitsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for bookmark visits.
+ *
+ * A visit only increments an in-memory counter: a {@link LongAdder} per bookmark, whose
+ * cells are striped across threads, so concurrent clicks on the same bookmark neither
+ * block nor lose increments. The counters are flushed periodically (and on shutdown) as
+ * one JDBC batch of relative updates ({@code visit_count = visit_count + ?}), which
+ * cannot lose concurrent writes either.
+ *
+ * Counters live in a generation that the flush swaps out as a whole: it installs a fresh
+ * generation, waits until the few recorders still inside the old one have left (tracked
+ * with striped entered/exited adders, never a lock), then drains the old generation with
+ * no concurrent writers. Every visit is written exactly once, and idle counters simply
+ * disappear with their generation.
+ *
+ * Visits still in the buffer are not visible in visitCount until the next flush.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VisitCounterService {
+
+    private static final String FLUSH_SQL =
+            "UPDATE bookmarks SET visit_count = visit_count + ?, " +
+            "last_visited_at = COALESCE(?, last_visited_at) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher domainEventPublisher;
+
+    private final AtomicReference<Generation> current = new AtomicReference<>(new Generation());
+
+    private static final class Generation {
+        final Map<Long, VisitCounter> counters = new ConcurrentHashMap<>();
+        final LongAdder entered = new LongAdder();
+        final LongAdder exited = new LongAdder();
+
+        /**
+         * No recorder is writing into this generation any more (only meaningful once it
+         * has been swapped out). Exits are summed first: every exit counted there has its
+         * entry counted in the later sum, so equal sums mean nobody is still inside.
+         */
+        boolean isQuiescent() {
+            long exits = exited.sum();
+            return entered.sum() == exits;
+        }
+    }
+
+    private static final class VisitCounter {
+        final LongAdder visits = new LongAdder();
+        final LongAccumulator lastVisitedAt = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    }
+
+    private record PendingUpdate(long bookmarkId, long visits, Timestamp lastVisitedAt) {
+    }
+
+    /**
+     * Count one visit (no database access)
+     */
+    public void record(long bookmarkId) {
+        add(bookmarkId, 1, System.currentTimeMillis());
+    }
+
+    /**
+     * Write the buffered visits in one batch
+     */
+    @Scheduled(fixedDelayString = "${visits.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Generation previous = current.getAndSet(new Generation());
+        // Recorders still inside the old generation are a few instructions from leaving
+        while (!previous.isQuiescent()) {
+            Thread.yield();
+        }
+
+        List<PendingUpdate> updates = new ArrayList<>();
+        previous.counters.forEach((bookmarkId, counter) -> {
+            long visits = counter.visits.sum();
+            if (visits > 0) {
+                updates.add(new PendingUpdate(bookmarkId, visits, new Timestamp(counter.lastVisitedAt.get())));
+            }
+        });
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int[][] counts = jdbcTemplate.batchUpdate(FLUSH_SQL, updates, updates.size(), (ps, update) -> {
+                    ps.setLong(1, update.visits());
+                    ps.setTimestamp(2, update.lastVisitedAt());
+                    ps.setLong(3, update.bookmarkId());
+                });
+                // Listeners run after the commit (add to ranking signals and statistics)
+                Map<Long, VisitsFlushedEvent.Visits> flushed = updated(updates, counts);
+                if (!flushed.isEmpty()) {
+                    domainEventPublisher.publishEvent(new VisitsFlushedEvent(this, flushed));
+                }
+            });
+        } catch (RuntimeException e) {
+            // Keep the visits for the next attempt
+            updates.forEach(update ->
+                    add(update.bookmarkId(), update.visits(), update.lastVisitedAt().getTime()));
+            throw e;
+        }
+        log.debug("Flushed visits of {} bookmarks", updates.size());
+    }
+
+    /**
+     * The updates whose row still existed: visits of a bookmark deleted meanwhile matched
+     * no row and must not reach the statistics (counts are per batch, in update order)
+     */
+    private static Map<Long, VisitsFlushedEvent.Visits> updated(List<PendingUpdate> updates, int[][] counts) {
+        Map<Long, VisitsFlushedEvent.Visits> flushed = new HashMap<>();
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                PendingUpdate update = updates.get(i++);
+                // SUCCESS_NO_INFO: the driver does not report counts, assume the row exists
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    flushed.put(update.bookmarkId(), new VisitsFlushedEvent.Visits(
+                            update.visits(), update.lastVisitedAt().toLocalDateTime()));
+                }
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * Do not lose the buffered visits on a graceful shutdown
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush buffered visits on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private void add(long bookmarkId, long visits, long visitedAt) {
+        while (true) {
+            Generation generation = current.get();
+            generation.entered.increment();
+            try {
+                // Swapped out meanwhile: the flush may already be draining it, use the new one
+                if (current.get() == generation) {
+                    VisitCounter counter = generation.counters.computeIfAbsent(bookmarkId, id -> new VisitCounter());
+                    counter.lastVisitedAt.accumulate(visitedAt);
+                    counter.visits.add(visits);
+                    return;
+                }
+            } finally {
+                generation.exited.increment();
+            }
+        }
+    }
+}
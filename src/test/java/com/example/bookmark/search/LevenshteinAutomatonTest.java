@@ -0,0 +1,124 @@
+package com.example.bookmark.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LevenshteinAutomatonTest {
+
+    private static final NavigableSet<String> TERMS = sorted("spring", "sprint", "spline", "string", "boot", "booth",
+            "java", "javascript", "jvm", "스프링", "스프링부트", "s", "sp", "spr");
+
+    @Test
+    void matchesTypoAndTransposition() {
+        Map<String, Integer> matches = new LevenshteinAutomaton("sprnig", 2).matches(TERMS, 50);
+
+        assertThat(matches).containsEntry("spring", 1).containsEntry("sprint", 2).containsEntry("string", 2);
+    }
+
+    @Test
+    void firstCharacterMustMatch() {
+        assertThat(new LevenshteinAutomaton("tpring", 2).matches(TERMS, 50)).isEmpty();
+    }
+
+    @Test
+    void returnsClosestFirstUpToMaxExpansions() {
+        Map<String, Integer> matches = new LevenshteinAutomaton("sprinh", 2).matches(TERMS, 2);
+
+        assertThat(matches).hasSize(2);
+        assertThat(matches.values()).containsExactly(1, 1);
+        assertThat(matches).containsKeys("spring", "sprint");
+    }
+
+    @Test
+    void matchesNonLatinTerms() {
+        assertThat(new LevenshteinAutomaton("스프링부투", 1).matches(TERMS, 50))
+                .containsExactly(Map.entry("스프링부트", 1));
+    }
+
+    @Test
+    void noEditsOrEmptyDictionaryMatchNothing() {
+        assertThat(new LevenshteinAutomaton("boot", 0).matches(TERMS, 50)).isEmpty();
+        assertThat(new LevenshteinAutomaton("boot", 1).matches(new TreeSet<>(), 50)).isEmpty();
+        assertThat(new LevenshteinAutomaton("xoot", 1).matches(TERMS, 50)).isEmpty();
+    }
+
+    @Test
+    void maxEditsGrowsWithTermLength() {
+        assertThat(LevenshteinAutomaton.maxEditsFor("ab")).isZero();
+        assertThat(LevenshteinAutomaton.maxEditsFor("abcde")).isEqualTo(1);
+        assertThat(LevenshteinAutomaton.maxEditsFor("abcdef")).isEqualTo(2);
+        assertThat(LevenshteinAutomaton.maxEditsFor("스프링")).isEqualTo(1);
+    }
+
+    @Test
+    void agreesWithBruteForceDistance() {
+        Random random = new Random(42);
+        // Same set type as the search index dictionary's key set
+        NavigableSet<String> dictionary = new ConcurrentSkipListSet<>();
+        for (int i = 0; i < 2000; i++) {
+            dictionary.add(randomWord(random));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random);
+            int maxEdits = 1 + random.nextInt(2);
+
+            Map<String, Integer> expected = new TreeMap<>();
+            for (String term : dictionary) {
+                int distance = distance(query, term);
+                if (distance <= maxEdits && term.charAt(0) == query.charAt(0)) {
+                    expected.put(term, distance);
+                }
+            }
+
+            assertThat(new TreeMap<>(new LevenshteinAutomaton(query, maxEdits).matches(dictionary, Integer.MAX_VALUE)))
+                    .as("query %s, maxEdits %d", query, maxEdits)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(6);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions)
+     */
+    private static int distance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private static NavigableSet<String> sorted(String... terms) {
+        return new TreeSet<>(Arrays.asList(terms));
+    }
+}
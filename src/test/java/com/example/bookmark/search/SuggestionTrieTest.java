@@ -0,0 +1,176 @@
+package com.example.bookmark.search;
+
+import com.example.bookmark.dto.Suggestion;
+import com.example.bookmark.dto.SuggestionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SuggestionTrieTest {
+
+    @Test
+    void topListsAreBestFirstPerPrefix() {
+        SuggestionTrie trie = new SuggestionTrie(3);
+        put(trie, "spring", 5);
+        put(trie, "spring boot", 9);
+        put(trie, "sprint", 7);
+        put(trie, "spa", 1);
+        put(trie, "java", 8);
+
+        assertThat(texts(trie.top("spr", 10))).containsExactly("spring boot", "sprint", "spring");
+        assertThat(texts(trie.top("sp", 10))).containsExactly("spring boot", "sprint", "spring");
+        assertThat(texts(trie.top("", 2))).containsExactly("spring boot", "java");
+        assertThat(texts(trie.top("spring", 10))).containsExactly("spring boot", "spring");
+        assertThat(trie.top("spx", 10)).isEmpty();
+        assertThat(trie.top("springs", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(5);
+    }
+
+    @Test
+    void splitsAnEdgeWhenAKeyEndsInsideIt() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        put(trie, "javascript", 3);
+        put(trie, "java", 2);
+
+        assertThat(texts(trie.top("jav", 5))).containsExactly("javascript", "java");
+        assertThat(texts(trie.top("java", 5))).containsExactly("javascript", "java");
+        assertThat(texts(trie.top("javas", 5))).containsExactly("javascript");
+    }
+
+    @Test
+    void splitsAnEdgeWhenKeysDiverge() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        put(trie, "spring", 1);
+        put(trie, "spline", 2);
+
+        assertThat(texts(trie.top("sp", 5))).containsExactly("spline", "spring");
+        assertThat(texts(trie.top("spr", 5))).containsExactly("spring");
+        assertThat(texts(trie.top("spl", 5))).containsExactly("spline");
+    }
+
+    @Test
+    void replacesTheEntryOfTheSameType() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        put(trie, "spring", 1);
+        put(trie, "spring", 4);
+        trie.put("spring", new Suggestion("spring", SuggestionType.TAG, 2));
+
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.top("spring", 5)).extracting(Suggestion::getType, Suggestion::getScore)
+                .containsExactly(
+                        tuple(SuggestionType.TITLE, 4.0),
+                        tuple(SuggestionType.TAG, 2.0));
+    }
+
+    @Test
+    void removingALeafMergesTheRemainingChildIntoItsParent() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        put(trie, "spring", 1);
+        put(trie, "sprint", 2);
+
+        trie.remove("sprint", SuggestionType.TITLE);
+
+        assertThat(texts(trie.top("sprin", 5))).containsExactly("spring");
+        assertThat(texts(trie.top("spring", 5))).containsExactly("spring");
+        assertThat(trie.top("sprint", 5)).isEmpty();
+        assertThat(trie.top("springs", 5)).isEmpty();
+
+        // The merged edge splits again on the next insert
+        put(trie, "sprite", 3);
+        assertThat(texts(trie.top("spri", 5))).containsExactly("sprite", "spring");
+        assertThat(texts(trie.top("sprin", 5))).containsExactly("spring");
+    }
+
+    @Test
+    void removingAnInnerKeyMergesItsOnlyChild() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        put(trie, "java", 5);
+        put(trie, "javascript", 3);
+
+        trie.remove("java", SuggestionType.TITLE);
+
+        assertThat(texts(trie.top("jav", 5))).containsExactly("javascript");
+        assertThat(texts(trie.top("javas", 5))).containsExactly("javascript");
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeKeepsOtherTypesAndIgnoresMissingKeys() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        put(trie, "spring", 1);
+        trie.put("spring", new Suggestion("spring", SuggestionType.TAG, 2));
+
+        trie.remove("spring", SuggestionType.TITLE);
+        trie.remove("spr", SuggestionType.TAG);
+        trie.remove("summer", SuggestionType.TAG);
+
+        assertThat(trie.top("s", 5)).extracting(Suggestion::getType).containsExactly(SuggestionType.TAG);
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void agreesWithBruteForceAfterRandomPutsAndRemoves() {
+        Random random = new Random(7);
+        SuggestionTrie trie = new SuggestionTrie(4);
+        Map<String, Suggestion> expected = new HashMap<>();
+
+        for (int i = 0; i < 3000; i++) {
+            String key = randomKey(random);
+            SuggestionType type = SuggestionType.values()[random.nextInt(2)];
+            if (random.nextInt(3) == 0) {
+                trie.remove(key, type);
+                expected.remove(key + "/" + type);
+            } else {
+                Suggestion suggestion = new Suggestion(key, type, random.nextInt(100));
+                trie.put(key, suggestion);
+                expected.put(key + "/" + type, suggestion);
+            }
+
+            String sample = randomKey(random);
+            String prefix = sample.substring(0, Math.min(sample.length(), random.nextInt(3)));
+            assertThat(trie.top(prefix, 4))
+                    .as("prefix '%s' after %d operations", prefix, i + 1)
+                    .containsExactlyElementsOf(bruteForceTop(expected.values(), prefix, 4));
+            assertThat(trie.size()).isEqualTo(expected.size());
+        }
+    }
+
+    private static List<Suggestion> bruteForceTop(Iterable<Suggestion> all, String prefix, int limit) {
+        List<Suggestion> matches = new ArrayList<>();
+        for (Suggestion suggestion : all) {
+            if (suggestion.getText().startsWith(prefix)) {
+                matches.add(suggestion);
+            }
+        }
+        // Ties on score and text (one key with both types) are broken by type for a stable comparison
+        matches.sort(Comparator.comparingDouble(Suggestion::getScore).reversed()
+                .thenComparing(Suggestion::getText)
+                .thenComparing(Suggestion::getType));
+        return matches.subList(0, Math.min(limit, matches.size()));
+    }
+
+    private static String randomKey(Random random) {
+        int length = 1 + random.nextInt(4);
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+        return key.toString();
+    }
+
+    private static void put(SuggestionTrie trie, String key, double score) {
+        trie.put(key, new Suggestion(key, SuggestionType.TITLE, score));
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+}
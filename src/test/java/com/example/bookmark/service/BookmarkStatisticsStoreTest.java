@@ -0,0 +1,139 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.event.domain.BookmarkChange;
+import com.example.bookmark.event.domain.BookmarkState;
+import com.example.bookmark.repository.BookmarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookmarkStatisticsStoreTest {
+
+    private static final long USER_ID = 1L;
+
+    private BookmarkRepository repository;
+    private BookmarkStatisticsStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(BookmarkRepository.class);
+        store = new BookmarkStatisticsStore(repository);
+        databaseHas(0, 0, 0, 0, 0, Map.of());
+        store.reconcile();
+    }
+
+    @Test
+    void creationAddsTheNewState() {
+        store.apply(BookmarkChange.created(10L, USER_ID, state(1L, true, 4, 3)));
+
+        assertThat(store.snapshot()).isEqualTo(new BookmarkStatisticsStore.Snapshot(1, 1, 3, 4, 1, Map.of(1L, 1L)));
+    }
+
+    @Test
+    void deletionSubtractsThePreviousState() {
+        store.apply(BookmarkChange.created(10L, USER_ID, state(1L, true, 4, 3)));
+        store.apply(BookmarkChange.created(11L, USER_ID, state(1L, false, 2, 0)));
+
+        store.apply(BookmarkChange.deleted(10L, USER_ID, state(1L, true, 4, 3)));
+
+        assertThat(store.snapshot()).isEqualTo(new BookmarkStatisticsStore.Snapshot(1, 0, 0, 2, 1, Map.of(1L, 1L)));
+    }
+
+    @Test
+    void categoryMoveShiftsTheCount() {
+        store.apply(BookmarkChange.created(10L, USER_ID, state(1L, false, null, 0)));
+
+        store.apply(BookmarkChange.updated(10L, USER_ID, state(1L, false, null, 0), state(2L, false, null, 0)));
+
+        BookmarkStatisticsStore.Snapshot snapshot = store.snapshot();
+        assertThat(snapshot.totalBookmarks()).isEqualTo(1);
+        assertThat(snapshot.countByCategory()).isEqualTo(Map.of(2L, 1L)); // emptied category is dropped
+    }
+
+    @Test
+    void ratingSetToNullLeavesTheRatedBookmarks() {
+        store.apply(BookmarkChange.created(10L, USER_ID, state(null, false, 5, 0)));
+        store.apply(BookmarkChange.created(11L, USER_ID, state(null, false, 3, 0)));
+
+        store.apply(BookmarkChange.updated(10L, USER_ID, state(null, false, 5, 0), state(null, false, null, 0)));
+
+        BookmarkStatisticsStore.Snapshot snapshot = store.snapshot();
+        assertThat(snapshot.ratingSum()).isEqualTo(3);
+        assertThat(snapshot.ratedBookmarks()).isEqualTo(1);
+        assertThat(snapshot.averageRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    void unchangedStateIsIgnored() {
+        store.apply(BookmarkChange.created(10L, USER_ID, state(1L, true, 4, 3)));
+        BookmarkStatisticsStore.Snapshot before = store.snapshot();
+
+        store.apply(BookmarkChange.updated(10L, USER_ID, state(1L, true, 4, 3), state(1L, true, 4, 3)));
+
+        assertThat(store.snapshot()).isEqualTo(before);
+    }
+
+    @Test
+    void driftIsRepairedOnlyWhenSeenTwice() {
+        store.apply(BookmarkChange.created(10L, USER_ID, state(1L, false, null, 0)));
+        // A bookmark inserted behind the events' back
+        databaseHas(2, 0, 0, 0, 0, Map.of(1L, 2L));
+
+        store.reconcile();
+        assertThat(store.snapshot().totalBookmarks()).isEqualTo(1);
+
+        store.reconcile();
+        assertThat(store.snapshot()).isEqualTo(new BookmarkStatisticsStore.Snapshot(2, 0, 0, 0, 0, Map.of(1L, 2L)));
+    }
+
+    @Test
+    void transientDifferenceIsNotRepaired() {
+        // The queries see a commit whose delta is applied only after they ran
+        databaseHas(1, 0, 0, 0, 0, Map.of(1L, 1L));
+        store.reconcile();
+        store.apply(BookmarkChange.created(10L, USER_ID, state(1L, false, null, 0)));
+
+        store.reconcile();
+
+        assertThat(store.snapshot()).isEqualTo(new BookmarkStatisticsStore.Snapshot(1, 0, 0, 0, 0, Map.of(1L, 1L)));
+    }
+
+    @Test
+    void driftIsRepairedUnderSteadyLoad() {
+        // Real drift of 5 visits, plus a different in-flight delta during each run
+        store.apply(BookmarkChange.created(10L, USER_ID, state(null, false, null, 10)));
+        databaseHas(1, 0, 16, 0, 0, Map.of());
+        store.reconcile();
+        databaseHas(1, 0, 14, 0, 0, Map.of());
+        store.reconcile();
+
+        assertThat(store.snapshot().totalVisits()).isEqualTo(14);
+
+        databaseHas(1, 0, 15, 0, 0, Map.of());
+        store.reconcile();
+        store.reconcile();
+        assertThat(store.snapshot().totalVisits()).isEqualTo(15);
+    }
+
+    private void databaseHas(long total, long favorites, long visits, long ratingSum, long rated,
+                             Map<Long, Long> categories) {
+        List<Object[]> totals = new ArrayList<>();
+        totals.add(new Object[]{total, favorites, visits, ratingSum, rated});
+        when(repository.getStatisticsTotals()).thenReturn(totals);
+        List<Object[]> rows = new ArrayList<>();
+        categories.forEach((categoryId, count) -> rows.add(new Object[]{categoryId, count}));
+        when(repository.countByCategoryGrouped()).thenReturn(rows);
+    }
+
+    private static BookmarkState state(Long categoryId, boolean favorite, Integer rating, int visits) {
+        return new BookmarkState("title", "https://example.com", null, null, categoryId, null,
+                true, favorite, rating, visits, null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.bookmark.service;
+
+import com.example.bookmark.service.NetscapeBookmarkParser.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class NetscapeBookmarkParserTest {
+
+    @Test
+    void parsesFirefoxExport() throws IOException {
+        List<Entry> entries;
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/import/firefox-bookmarks.html"), StandardCharsets.UTF_8)) {
+            entries = parseAll(reader);
+        }
+
+        assertThat(entries).containsExactly(
+                new Entry("Getting Started", "https://www.mozilla.org/en-US/firefox/central/", null, null,
+                        List.of(), at(1700000000L)),
+                new Entry("Spring Boot", "https://spring.io/projects/spring-boot",
+                        "Opinionated & production-ready Spring applications", "Bookmarks Toolbar",
+                        List.of("java", "spring", "boot"), at(1700000300L)),
+                // Microsecond ADD_DATE, the commented-out link is skipped
+                new Entry("Java SE 17 & JDK 17", "https://docs.oracle.com/javase/17/", null, "Dev > Docs",
+                        List.of(), at(1700000400L)),
+                // No </A>: the title ends at the next <DT>
+                new Entry("Unclosed link", "https://example.com/unclosed?a=1&b=2", null, "Dev > Docs",
+                        List.of(), null),
+                new Entry("Quote \"inside\" title", "https://example.com/single-quoted", null, "Dev > Docs",
+                        List.of("x", "y"), null),
+                // A list without a heading keeps the enclosing folder; millisecond ADD_DATE
+                new Entry("Inherits the toolbar", "https://example.com/unnamed-list", null, "Bookmarks Toolbar",
+                        List.of(), at(1700000500L)),
+                // Back at the top level, the named anchor is not a link
+                new Entry("Last link", "https://example.com/last", null, null, List.of(), null));
+    }
+
+    @Test
+    void descriptionRunsUntilTheNextStructuralTag() throws IOException {
+        List<Entry> entries = parseAll(new StringReader("""
+                <DL><DT><H3>Folder</H3>
+                <DL><DT><A HREF="https://a.example">A</A>
+                <DD>First <i>line</i>
+                second line
+                </DL>
+                <DT><A HREF="https://b.example">B</A>
+                </DL>
+                """));
+
+        assertThat(entries).extracting(Entry::title, Entry::description, Entry::folder).containsExactly(
+                tuple("A", "First line second line", "Folder"),
+                tuple("B", null, null));
+    }
+
+    @Test
+    void truncatedFileReturnsTheLinkBeingRead() throws IOException {
+        NetscapeBookmarkParser parser = new NetscapeBookmarkParser(new StringReader(
+                "<DL><p><DT><A HREF=\"https://a.example\">Cut off"));
+
+        assertThat(parser.next()).extracting(Entry::title, Entry::url).containsExactly("Cut off", "https://a.example");
+        assertThat(parser.next()).isNull();
+        assertThat(parser.next()).isNull();
+    }
+
+    @Test
+    void emptyOrNonBookmarkInputHasNoEntries() throws IOException {
+        assertThat(parseAll(new StringReader(""))).isEmpty();
+        assertThat(parseAll(new StringReader("<html><body><p>not a bookmark file</p></body></html>"))).isEmpty();
+    }
+
+    private static List<Entry> parseAll(Reader reader) throws IOException {
+        NetscapeBookmarkParser parser = new NetscapeBookmarkParser(reader);
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry = parser.next(); entry != null; entry = parser.next()) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static LocalDateTime at(long epochSeconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneId.systemDefault());
+    }
+}